@@ -0,0 +1,239 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessorAdapter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bean post-processor which records the time spent instantiating, populating,
+ * and initializing each bean while an {@link ApplicationContext} is being
+ * refreshed and reports the results once the refresh has completed.
+ *
+ * <p>Nested bean creation (i.e., dependencies created while another bean is
+ * being created) is tracked via a stack, which allows the <em>self</em> time
+ * of each bean to be reported separately from its total time.
+ *
+ * <p>Recording stops once the {@link ContextRefreshedEvent} has been received.
+ *
+ * @author agent
+ * @since 1.0
+ * @see ProfileContextRefresh
+ * @see ContextRefreshProfilerContextCustomizer
+ */
+class ContextRefreshProfiler extends InstantiationAwareBeanPostProcessorAdapter
+		implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final Log logger = LogFactory.getLog(ContextRefreshProfiler.class);
+
+	private final ApplicationContext applicationContext;
+
+	private final String name;
+
+	private final String outputDirectory;
+
+	private final Deque<BeanTiming> creationStack = new ArrayDeque<>();
+
+	private final List<BeanTiming> completedTimings = new ArrayList<>();
+
+	private volatile boolean recording = true;
+
+
+	ContextRefreshProfiler(ApplicationContext applicationContext, String name, String outputDirectory) {
+		this.applicationContext = applicationContext;
+		this.name = name;
+		this.outputDirectory = outputDirectory;
+	}
+
+
+	@Override
+	public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+		if (this.recording) {
+			BeanTiming parent = this.creationStack.peek();
+			String stack = (parent != null ? parent.stack + ";" + beanName : beanName);
+			this.creationStack.push(new BeanTiming(beanName, stack, System.nanoTime()));
+		}
+		return null;
+	}
+
+	@Override
+	public boolean postProcessAfterInstantiation(Object bean, String beanName) throws BeansException {
+		BeanTiming timing = currentTiming(beanName);
+		if (timing != null) {
+			timing.instantiatedTime = System.nanoTime();
+		}
+		return true;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		BeanTiming timing = currentTiming(beanName);
+		if (timing != null) {
+			timing.populatedTime = System.nanoTime();
+		}
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		if (!this.recording || !containsTiming(beanName)) {
+			return bean;
+		}
+		long endTime = System.nanoTime();
+		BeanTiming timing = this.creationStack.pop();
+		// Discard timings of beans whose creation failed.
+		while (!timing.beanName.equals(beanName)) {
+			timing = this.creationStack.pop();
+		}
+		timing.endTime = endTime;
+		BeanTiming parent = this.creationStack.peek();
+		if (parent != null) {
+			parent.nestedNanos += timing.getTotalNanos();
+		}
+		this.completedTimings.add(timing);
+		return bean;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (event.getApplicationContext() != this.applicationContext || !this.recording) {
+			return;
+		}
+		this.recording = false;
+		this.creationStack.clear();
+		this.completedTimings.sort((t1, t2) -> Long.compare(t2.getTotalNanos(), t1.getTotalNanos()));
+
+		String report = createReport();
+		if (logger.isInfoEnabled()) {
+			logger.info(report);
+		}
+		if (StringUtils.hasText(this.outputDirectory)) {
+			writeReportFiles(report);
+		}
+	}
+
+	private BeanTiming currentTiming(String beanName) {
+		BeanTiming timing = (this.recording ? this.creationStack.peek() : null);
+		return (timing != null && timing.beanName.equals(beanName) ? timing : null);
+	}
+
+	private boolean containsTiming(String beanName) {
+		for (BeanTiming timing : this.creationStack) {
+			if (timing.beanName.equals(beanName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String createReport() {
+		StringBuilder report = new StringBuilder(String.format(
+			"Context refresh profile for [%s]: %d beans%n", this.name, this.completedTimings.size()));
+		report.append(String.format("%12s %12s %15s %12s %14s  %s%n",
+			"total(us)", "self(us)", "instantiate(us)", "populate(us)", "initialize(us)", "bean"));
+		for (BeanTiming timing : this.completedTimings) {
+			report.append(String.format("%12d %12d %15d %12d %14d  %s%n", timing.getTotalNanos() / 1000,
+				timing.getSelfNanos() / 1000, timing.getInstantiationNanos() / 1000,
+				timing.getPopulationNanos() / 1000, timing.getInitializationNanos() / 1000, timing.beanName));
+		}
+		return report.toString();
+	}
+
+	private String createCollapsedStacks() {
+		StringBuilder stacks = new StringBuilder();
+		for (BeanTiming timing : this.completedTimings) {
+			stacks.append(timing.stack).append(' ').append(timing.getSelfNanos() / 1000).append('\n');
+		}
+		return stacks.toString();
+	}
+
+	private void writeReportFiles(String report) {
+		try {
+			Path directory = Files.createDirectories(Paths.get(this.outputDirectory));
+			Files.write(directory.resolve(this.name + ".txt"), report.getBytes(StandardCharsets.UTF_8));
+			Files.write(directory.resolve(this.name + ".collapsed"),
+				createCollapsedStacks().getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException ex) {
+			logger.warn("Failed to write context refresh profile for [" + this.name + "] to directory [" +
+					this.outputDirectory + "]", ex);
+		}
+	}
+
+
+	private static class BeanTiming {
+
+		final String beanName;
+
+		final String stack;
+
+		final long startTime;
+
+		long instantiatedTime;
+
+		long populatedTime;
+
+		long endTime;
+
+		long nestedNanos;
+
+		BeanTiming(String beanName, String stack, long startTime) {
+			this.beanName = beanName;
+			this.stack = stack;
+			this.startTime = startTime;
+		}
+
+		long getTotalNanos() {
+			return this.endTime - this.startTime;
+		}
+
+		long getSelfNanos() {
+			return getTotalNanos() - this.nestedNanos;
+		}
+
+		long getInstantiationNanos() {
+			return (this.instantiatedTime != 0 ? this.instantiatedTime - this.startTime : 0);
+		}
+
+		long getPopulationNanos() {
+			return (this.instantiatedTime != 0 && this.populatedTime != 0 ?
+					this.populatedTime - this.instantiatedTime : 0);
+		}
+
+		long getInitializationNanos() {
+			return (this.populatedTime != 0 ? this.endTime - this.populatedTime : 0);
+		}
+	}
+
+}
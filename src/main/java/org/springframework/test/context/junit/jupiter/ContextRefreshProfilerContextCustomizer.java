@@ -0,0 +1,60 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * {@link ContextCustomizer} which registers a {@link ContextRefreshProfiler}
+ * with the context before it is refreshed.
+ *
+ * @author agent
+ * @since 1.0
+ * @see ContextRefreshProfilerContextCustomizerFactory
+ */
+class ContextRefreshProfilerContextCustomizer implements ContextCustomizer {
+
+	private final String outputDirectory;
+
+
+	ContextRefreshProfilerContextCustomizer(String outputDirectory) {
+		this.outputDirectory = outputDirectory;
+	}
+
+
+	@Override
+	public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+		ContextRefreshProfiler profiler = new ContextRefreshProfiler(context,
+			mergedConfig.getTestClass().getName(), this.outputDirectory);
+		context.getBeanFactory().addBeanPostProcessor(profiler);
+		context.addApplicationListener(profiler);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return (this == other || (other instanceof ContextRefreshProfilerContextCustomizer &&
+				this.outputDirectory.equals(((ContextRefreshProfilerContextCustomizer) other).outputDirectory)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.outputDirectory.hashCode();
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.util.List;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+
+/**
+ * {@link ContextCustomizerFactory} which enables profiling of the context
+ * refresh for test classes annotated with
+ * {@link ProfileContextRefresh @ProfileContextRefresh}.
+ *
+ * <p>This factory is registered by default via {@code META-INF/spring.factories}.
+ *
+ * @author agent
+ * @since 1.0
+ * @see ProfileContextRefresh
+ */
+public class ContextRefreshProfilerContextCustomizerFactory implements ContextCustomizerFactory {
+
+	@Override
+	public ContextCustomizer createContextCustomizer(Class<?> testClass,
+			List<ContextConfigurationAttributes> configAttributes) {
+
+		ProfileContextRefresh profileContextRefresh =
+				AnnotatedElementUtils.findMergedAnnotation(testClass, ProfileContextRefresh.class);
+		return (profileContextRefresh != null ?
+				new ContextRefreshProfilerContextCustomizer(profileContextRefresh.outputDirectory()) : null);
+	}
+
+}
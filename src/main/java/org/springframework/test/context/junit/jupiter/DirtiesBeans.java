@@ -0,0 +1,60 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * {@code @DirtiesBeans} indicates that the test has modified the state of
+ * individual singleton beans in the {@link org.springframework.context.ApplicationContext
+ * ApplicationContext} and that only those beans &mdash; along with the beans
+ * that depend on them &mdash; should be destroyed and re-created, instead of
+ * closing and reloading the entire context as with
+ * {@link DirtiesContext @DirtiesContext}.
+ *
+ * <p>When declared on a test method, the beans are re-created after that method.
+ * When declared on a test class, the beans are re-created after all tests in
+ * that class have run.
+ *
+ * <p>Only beans backed by a bean definition can be re-created. Consumers that
+ * still hold references to the previous instances outside of the context (for
+ * example, the current test instance) are not updated.
+ *
+ * @author agent
+ * @since 1.0
+ * @see DirtiesBeansTestExecutionListener
+ * @see DirtiesContext
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface DirtiesBeans {
+
+	/**
+	 * The names of the beans that have been dirtied.
+	 */
+	String[] value();
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.lang.reflect.AnnotatedElement;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit.jupiter.SingletonBeanUtils.DestroyedSingletons;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * {@code TestExecutionListener} which provides support for
+ * {@link DirtiesBeans @DirtiesBeans}.
+ *
+ * <p>Each dirtied singleton bean is destroyed together with all beans that
+ * depend on it, after which all of those beans are re-created within the
+ * existing {@link ApplicationContext}.
+ *
+ * <p>This listener is registered by default via {@code META-INF/spring.factories}.
+ * Its {@link #getOrder() order} ensures that beans are re-created before the
+ * {@link org.springframework.test.context.support.DirtiesContextTestExecutionListener
+ * DirtiesContextTestExecutionListener} potentially closes the context.
+ *
+ * @author agent
+ * @since 1.0
+ * @see DirtiesBeans
+ */
+public class DirtiesBeansTestExecutionListener extends AbstractTestExecutionListener {
+
+	/**
+	 * Returns {@code 3500}.
+	 */
+	@Override
+	public final int getOrder() {
+		return 3500;
+	}
+
+	/**
+	 * Re-creates the beans declared via {@link DirtiesBeans @DirtiesBeans}
+	 * on the current test method, if any.
+	 */
+	@Override
+	public void afterTestMethod(TestContext testContext) throws Exception {
+		recreateDirtiedBeans(testContext, testContext.getTestMethod());
+	}
+
+	/**
+	 * Re-creates the beans declared via {@link DirtiesBeans @DirtiesBeans}
+	 * on the current test class, if any.
+	 */
+	@Override
+	public void afterTestClass(TestContext testContext) throws Exception {
+		recreateDirtiedBeans(testContext, testContext.getTestClass());
+	}
+
+	private void recreateDirtiedBeans(TestContext testContext, AnnotatedElement element) {
+		DirtiesBeans dirtiesBeans = AnnotatedElementUtils.findMergedAnnotation(element, DirtiesBeans.class);
+		if (dirtiesBeans == null) {
+			return;
+		}
+
+		DefaultListableBeanFactory beanFactory =
+				SingletonBeanUtils.getBeanFactory(testContext.getApplicationContext(), "@DirtiesBeans");
+		for (String beanName : dirtiesBeans.value()) {
+			if (!beanFactory.containsBeanDefinition(beanName)) {
+				throw new IllegalStateException(String.format(
+					"Cannot re-create bean '%s' declared via @DirtiesBeans on [%s]: no such bean definition",
+					beanName, element));
+			}
+		}
+		DestroyedSingletons destroyedSingletons =
+				SingletonBeanUtils.destroySingletons(beanFactory, dirtiesBeans.value());
+		SingletonBeanUtils.recreateSingletons(beanFactory, destroyedSingletons);
+	}
+
+}
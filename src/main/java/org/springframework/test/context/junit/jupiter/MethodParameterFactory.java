@@ -34,8 +34,8 @@ import org.springframework.util.Assert;
  * @see ParameterAutowireUtils
  * @see MethodParameter
  * @see SynthesizingMethodParameter
- * @see #createMethodParameter(Parameter)
- * @see #createSynthesizingMethodParameter(Parameter)
+ * @see #createMethodParameter(Parameter, int)
+ * @see #createSynthesizingMethodParameter(Parameter, int)
  */
 abstract class MethodParameterFactory {
 
@@ -48,17 +48,20 @@ abstract class MethodParameterFactory {
 	 * <p>Supports parameters declared in methods and constructors.
 	 * @param parameter the parameter to create a {@code MethodParameter} for;
 	 * never {@code null}
+	 * @param index the index of the parameter in its declaring executable
 	 * @return a new {@code MethodParameter}
-	 * @see #createSynthesizingMethodParameter(Parameter)
+	 * @throws IllegalArgumentException if the index is out of bounds
+	 * @see #createSynthesizingMethodParameter(Parameter, int)
 	 */
-	public static MethodParameter createMethodParameter(Parameter parameter) {
+	public static MethodParameter createMethodParameter(Parameter parameter, int index) {
 		Assert.notNull(parameter, "Parameter must not be null");
 		Executable executable = parameter.getDeclaringExecutable();
+		assertIndexInBounds(executable, index);
 		if (executable instanceof Method) {
-			return new MethodParameter((Method) executable, getIndex(parameter));
+			return new MethodParameter((Method) executable, index);
 		}
 		// else
-		return new MethodParameter((Constructor<?>) executable, getIndex(parameter));
+		return new MethodParameter((Constructor<?>) executable, index);
 	}
 
 	/**
@@ -66,33 +69,30 @@ abstract class MethodParameterFactory {
 	 * <p>Supports parameters declared in methods.
 	 * @param parameter the parameter to create a {@code SynthesizingMethodParameter}
 	 * for; never {@code null}
+	 * @param index the index of the parameter in its declaring method
 	 * @return a new {@code SynthesizingMethodParameter}
+	 * @throws IllegalArgumentException if the index is out of bounds
 	 * @throws UnsupportedOperationException if the supplied parameter is declared
 	 * in a constructor
-	 * @see #createMethodParameter(Parameter)
+	 * @see #createMethodParameter(Parameter, int)
 	 */
-	public static SynthesizingMethodParameter createSynthesizingMethodParameter(Parameter parameter) {
+	public static SynthesizingMethodParameter createSynthesizingMethodParameter(Parameter parameter, int index) {
 		Assert.notNull(parameter, "Parameter must not be null");
 		Executable executable = parameter.getDeclaringExecutable();
+		assertIndexInBounds(executable, index);
 		if (executable instanceof Method) {
-			return new SynthesizingMethodParameter((Method) executable, getIndex(parameter));
+			return new SynthesizingMethodParameter((Method) executable, index);
 		}
 		// else
 		throw new UnsupportedOperationException(
 			"Cannot create a SynthesizingMethodParameter for a constructor parameter: " + parameter);
 	}
 
-	private static int getIndex(Parameter parameter) {
-		Assert.notNull(parameter, "Parameter must not be null");
-		Executable executable = parameter.getDeclaringExecutable();
-		Parameter[] parameters = executable.getParameters();
-		for (int i = 0; i < parameters.length; i++) {
-			if (parameters[i] == parameter) {
-				return i;
-			}
+	private static void assertIndexInBounds(Executable executable, int index) {
+		if (index < 0 || index >= executable.getParameterCount()) {
+			throw new IllegalArgumentException(String.format(
+				"Parameter index [%d] is out of bounds for executable [%s]", index, executable.toGenericString()));
 		}
-		throw new IllegalStateException(String.format("Failed to resolve index of parameter [%s] in executable [%s]",
-			parameter, executable.toGenericString()));
 	}
 
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @OverrideBean} marks a {@code static}, no-arg factory method in a test
+ * class whose return value &mdash; typically a mock, spy, or stub &mdash;
+ * replaces the singleton bean with the given name in the test's
+ * {@link org.springframework.context.ApplicationContext ApplicationContext}
+ * for the duration of the test class.
+ *
+ * <p>In contrast to customizing the context configuration for each combination
+ * of test doubles, overriding beans does not change the context cache key: the
+ * cached context is reused, the override is registered before the first test
+ * runs, and the original bean is restored after the last test has run. Beans
+ * that depend on an overridden bean are re-created in both cases so that they
+ * are wired with the current instance.
+ *
+ * <p>Each {@code @OverrideBean} method is invoked once per test class, and the
+ * test double is registered before dependencies are injected into the test
+ * instance &mdash; also when using the <em>per-class</em> test instance lifecycle.
+ * If the overridden bean is replaced while the test class runs &mdash; for
+ * example, because the context is reloaded after
+ * {@link org.springframework.test.annotation.DirtiesContext @DirtiesContext}
+ * or the bean is re-created after {@link DirtiesBeans @DirtiesBeans} &mdash;
+ * the same test double is registered again before the next test method.
+ *
+ * <p>The following limitations apply.
+ * <ul>
+ * <li>Only beans backed by a singleton bean definition can be overridden.</li>
+ * <li>Only {@code @OverrideBean} methods declared in the test class or its
+ * superclasses are taken into account; {@code @Nested} test classes do not
+ * inherit the overrides of their enclosing class.</li>
+ * <li>Since overrides are applied to a shared context, test classes that
+ * override beans must not run concurrently with other test classes using the
+ * same context.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 1.0
+ * @see OverrideBeanTestExecutionListener
+ * @see DirtiesBeans
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface OverrideBean {
+
+	/**
+	 * The name of the bean to override.
+	 */
+	String value();
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Conventions;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit.jupiter.SingletonBeanUtils.DestroyedSingletons;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@code TestExecutionListener} which provides support for
+ * {@link OverrideBean @OverrideBean}.
+ *
+ * <p>The test doubles are created once per test class and registered before
+ * the test class, the test instance, or a test method is first prepared. Each
+ * overridden singleton bean is destroyed together with all beans that depend on
+ * it, the test double is registered in its place, and the previously instantiated
+ * dependents are re-created. If an overridden bean has been replaced in the
+ * meantime &mdash; for example, because the context was reloaded after
+ * {@link org.springframework.test.annotation.DirtiesContext @DirtiesContext} or
+ * the bean was re-created after {@link DirtiesBeans @DirtiesBeans} &mdash; the
+ * test double is registered again before the next test method.
+ *
+ * <p>After the test class, the test doubles are destroyed and the original beans
+ * and their dependents are re-created from their bean definitions, unless the
+ * context has been closed in the meantime.
+ *
+ * <p>This listener is registered by default via {@code META-INF/spring.factories}.
+ * Its {@link #getOrder() order} ensures that the test doubles are registered
+ * before the
+ * {@link org.springframework.test.context.support.DependencyInjectionTestExecutionListener
+ * DependencyInjectionTestExecutionListener} injects dependencies into the test
+ * instance.
+ *
+ * @author agent
+ * @since 1.0
+ * @see OverrideBean
+ */
+public class OverrideBeanTestExecutionListener extends AbstractTestExecutionListener {
+
+	private static final String OVERRIDES_ATTRIBUTE =
+			Conventions.getQualifiedAttributeName(OverrideBeanTestExecutionListener.class, "overrides");
+
+	private static final String OVERRIDDEN_CONTEXT_ATTRIBUTE =
+			Conventions.getQualifiedAttributeName(OverrideBeanTestExecutionListener.class, "overriddenContext");
+
+
+	/**
+	 * Returns {@code 1900}.
+	 */
+	@Override
+	public final int getOrder() {
+		return 1900;
+	}
+
+	/**
+	 * Registers the test doubles declared via {@link OverrideBean @OverrideBean}
+	 * in the current test class, if any.
+	 */
+	@Override
+	public void beforeTestClass(TestContext testContext) throws Exception {
+		applyOverrides(testContext);
+	}
+
+	/**
+	 * Registers the test doubles declared via {@link OverrideBean @OverrideBean}
+	 * in the current test class, if any and if not yet registered.
+	 * <p>The test instance may be prepared before {@link #beforeTestClass} has
+	 * been invoked &mdash; for example, when using the <em>per-class</em> test
+	 * instance lifecycle in JUnit Jupiter.
+	 */
+	@Override
+	public void prepareTestInstance(TestContext testContext) throws Exception {
+		applyOverrides(testContext);
+	}
+
+	/**
+	 * Registers the test doubles declared via {@link OverrideBean @OverrideBean}
+	 * in the current test class again if they have been replaced since the
+	 * previous test method.
+	 */
+	@Override
+	public void beforeTestMethod(TestContext testContext) throws Exception {
+		applyOverrides(testContext);
+	}
+
+	/**
+	 * Restores the beans overridden via {@link OverrideBean @OverrideBean}
+	 * in the current test class, if any.
+	 */
+	@Override
+	public void afterTestClass(TestContext testContext) throws Exception {
+		ApplicationContext applicationContext =
+				(ApplicationContext) testContext.getAttribute(OVERRIDDEN_CONTEXT_ATTRIBUTE);
+		Map<String, Object> overrides = getOverrides(testContext);
+		testContext.removeAttribute(OVERRIDDEN_CONTEXT_ATTRIBUTE);
+		testContext.removeAttribute(OVERRIDES_ATTRIBUTE);
+		if (applicationContext == null || !((ConfigurableApplicationContext) applicationContext).isActive()) {
+			return;
+		}
+
+		DefaultListableBeanFactory beanFactory =
+				SingletonBeanUtils.getBeanFactory(applicationContext, "@OverrideBean");
+		DestroyedSingletons destroyedSingletons = SingletonBeanUtils.destroySingletons(beanFactory,
+			overrides.keySet().toArray(new String[0]));
+		SingletonBeanUtils.recreateSingletons(beanFactory, destroyedSingletons);
+	}
+
+	private void applyOverrides(TestContext testContext) {
+		Map<String, Object> overrides = getOverrides(testContext);
+		if (overrides.isEmpty()) {
+			return;
+		}
+
+		ApplicationContext applicationContext = testContext.getApplicationContext();
+		DefaultListableBeanFactory beanFactory =
+				SingletonBeanUtils.getBeanFactory(applicationContext, "@OverrideBean");
+		Map<String, Object> pendingOverrides = new LinkedHashMap<>();
+		overrides.forEach((beanName, override) -> {
+			if (beanFactory.getSingleton(beanName) != override) {
+				assertOverridable(beanFactory, beanName, override, testContext.getTestClass());
+				pendingOverrides.put(beanName, override);
+			}
+		});
+		testContext.setAttribute(OVERRIDDEN_CONTEXT_ATTRIBUTE, applicationContext);
+		if (pendingOverrides.isEmpty()) {
+			return;
+		}
+
+		DestroyedSingletons destroyedSingletons = SingletonBeanUtils.destroySingletons(beanFactory,
+			pendingOverrides.keySet().toArray(new String[0]));
+		pendingOverrides.forEach(beanFactory::registerSingleton);
+		SingletonBeanUtils.recreateSingletons(beanFactory, destroyedSingletons);
+	}
+
+	private void assertOverridable(DefaultListableBeanFactory beanFactory, String beanName, Object override,
+			Class<?> testClass) {
+
+		if (!beanFactory.containsBeanDefinition(beanName)) {
+			throw new IllegalStateException(String.format(
+				"Cannot override bean '%s' declared via @OverrideBean in [%s]: no such bean definition",
+				beanName, testClass.getName()));
+		}
+		Class<?> declaredType = getDeclaredType(beanFactory, beanName);
+		if (declaredType != null && !declaredType.isInstance(override)) {
+			throw new IllegalStateException(String.format(
+				"Cannot override bean '%s' declared with type [%s] with an instance of [%s]", beanName,
+				declaredType.getName(), override.getClass().getName()));
+		}
+	}
+
+	/**
+	 * Determine the type with which the bean with the supplied name is declared
+	 * &mdash; for example, the return type of its factory method &mdash; as
+	 * opposed to the concrete type of an existing singleton instance.
+	 * @return the declared type, or {@code null} if it cannot be determined
+	 */
+	private Class<?> getDeclaredType(DefaultListableBeanFactory beanFactory, String beanName) {
+		BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+		if (beanDefinition instanceof RootBeanDefinition) {
+			RootBeanDefinition rootBeanDefinition = (RootBeanDefinition) beanDefinition;
+			Method factoryMethod = rootBeanDefinition.getResolvedFactoryMethod();
+			if (factoryMethod != null) {
+				return factoryMethod.getReturnType();
+			}
+			if (rootBeanDefinition.getTargetType() != null) {
+				return rootBeanDefinition.getTargetType();
+			}
+			if (rootBeanDefinition.getFactoryMethodName() == null && rootBeanDefinition.hasBeanClass() &&
+					!FactoryBean.class.isAssignableFrom(rootBeanDefinition.getBeanClass())) {
+				return rootBeanDefinition.getBeanClass();
+			}
+		}
+		// Only predicted from the bean definition if not instantiated yet
+		return (beanFactory.containsSingleton(beanName) ? null : beanFactory.getType(beanName));
+	}
+
+	/**
+	 * Get the test doubles declared in the current test class, keyed by bean
+	 * name, invoking the {@link OverrideBean @OverrideBean} methods on first access.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> getOverrides(TestContext testContext) {
+		Map<String, Object> overrides = (Map<String, Object>) testContext.getAttribute(OVERRIDES_ATTRIBUTE);
+		if (overrides == null) {
+			overrides = new LinkedHashMap<>();
+			for (Map.Entry<String, Method> entry : findOverrideMethods(testContext.getTestClass()).entrySet()) {
+				Method method = entry.getValue();
+				ReflectionUtils.makeAccessible(method);
+				Object override = ReflectionUtils.invokeMethod(method, null);
+				Assert.state(override != null, "@OverrideBean method [" + method + "] must not return null");
+				overrides.put(entry.getKey(), override);
+			}
+			testContext.setAttribute(OVERRIDES_ATTRIBUTE, overrides);
+		}
+		return overrides;
+	}
+
+	/**
+	 * Find all {@link OverrideBean @OverrideBean} methods in the supplied test
+	 * class and its superclasses, keyed by bean name.
+	 */
+	private Map<String, Method> findOverrideMethods(Class<?> testClass) {
+		Map<String, Method> methods = new LinkedHashMap<>();
+		ReflectionUtils.doWithMethods(testClass, method -> {
+			OverrideBean overrideBean = AnnotatedElementUtils.findMergedAnnotation(method, OverrideBean.class);
+			Assert.state(Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0,
+				"@OverrideBean method [" + method + "] must be static and must not declare parameters");
+			Assert.state(method.getReturnType() != void.class,
+				"@OverrideBean method [" + method + "] must not return void");
+			Method existing = methods.putIfAbsent(overrideBean.value(), method);
+			Assert.state(existing == null, "Bean '" + overrideBean.value() +
+					"' is overridden by multiple @OverrideBean methods in [" + testClass.getName() + "]");
+		}, method -> AnnotatedElementUtils.hasAnnotation(method, OverrideBean.class));
+		return methods;
+	}
+
+}
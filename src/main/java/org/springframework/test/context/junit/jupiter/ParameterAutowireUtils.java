@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2019 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,17 +20,29 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.ClassUtils;
 
 import static org.springframework.core.annotation.AnnotatedElementUtils.hasAnnotation;
 
@@ -41,10 +53,34 @@ import static org.springframework.core.annotation.AnnotatedElementUtils.hasAnnot
  * @since 5.0
  * @see MethodParameterFactory
  * @see #isAutowirable(Parameter)
- * @see #resolveDependency(Parameter, Class, ApplicationContext)
+ * @see #resolveDependency(Parameter, int, Class, ApplicationContext)
  */
 abstract class ParameterAutowireUtils {
 
+	/**
+	 * Cache of resolved {@link Value @Value} parameters whose expressions do not
+	 * contain SpEL, keyed by the {@link ApplicationContext} they were resolved from.
+	 * <p>Only the keys are weakly referenced, so that cached values remain
+	 * available for as long as their context is.
+	 * @see #isCacheableValueParameter(Parameter)
+	 */
+	private static final Map<ApplicationContext, Map<Parameter, Object>> resolvedValueParametersCache =
+			Collections.synchronizedMap(new WeakHashMap<>(16));
+
+	private static Class<?> javaxInjectProviderClass;
+
+	static {
+		try {
+			javaxInjectProviderClass =
+					ClassUtils.forName("javax.inject.Provider", ParameterAutowireUtils.class.getClassLoader());
+		}
+		catch (ClassNotFoundException ex) {
+			// JSR-330 API not available - Provider interface simply not supported then.
+			javaxInjectProviderClass = null;
+		}
+	}
+
+
 	private ParameterAutowireUtils() {
 		/* no-op */
 	}
@@ -53,16 +89,24 @@ abstract class ParameterAutowireUtils {
 	 * Determine if the supplied {@link Parameter} can potentially be
 	 * autowired from an {@link ApplicationContext}.
 	 * <p>Returns {@code true} if the supplied parameter is of type
-	 * {@link ApplicationContext} (or a sub-type thereof) or is annotated or
-	 * meta-annotated with {@link Autowired @Autowired},
-	 * {@link Qualifier @Qualifier}, or {@link Value @Value}.
-	 * @see #resolveDependency(Parameter, Class, ApplicationContext)
+	 * {@link ApplicationContext} (or a sub-type thereof), is of type
+	 * {@link ObjectFactory}, {@link ObjectProvider}, or {@code javax.inject.Provider},
+	 * or is annotated or meta-annotated with {@link Autowired @Autowired},
+	 * {@link Qualifier @Qualifier}, {@link Value @Value}, or {@link Lazy @Lazy}.
+	 * <p>Parameters of the provider types and {@code @Lazy} parameters do not
+	 * trigger creation of the target bean until the test actually accesses it.
+	 * @see #resolveDependency(Parameter, int, Class, ApplicationContext)
 	 */
 	public static boolean isAutowirable(Parameter parameter) {
-		return ApplicationContext.class.isAssignableFrom(parameter.getType())
+		Class<?> type = parameter.getType();
+		return ApplicationContext.class.isAssignableFrom(type)
+				|| ObjectFactory.class == type
+				|| ObjectProvider.class == type
+				|| (javaxInjectProviderClass != null && javaxInjectProviderClass == type)
 				|| hasAnnotation(parameter, Autowired.class)
 				|| hasAnnotation(parameter, Qualifier.class)
-				|| hasAnnotation(parameter, Value.class);
+				|| hasAnnotation(parameter, Value.class)
+				|| hasAnnotation(parameter, Lazy.class);
 	}
 
 	/**
@@ -73,12 +117,29 @@ abstract class ParameterAutowireUtils {
 	 * methods, including support for {@link Autowired @Autowired},
 	 * {@link Qualifier @Qualifier}, and {@link Value @Value} with support for property
 	 * placeholders and SpEL expressions in {@code @Value} declarations.
+	 * <p>{@link ObjectFactory}, {@link ObjectProvider}, and {@code javax.inject.Provider}
+	 * parameters are resolved to lightweight handles, and {@link Lazy @Lazy} parameters
+	 * to lazy-resolution proxies, which defer retrieval of the target bean until
+	 * first use.
+	 * <p>{@code @Value} parameters of simple, immutable types whose expressions
+	 * consist solely of literals and property placeholders are resolved once per
+	 * {@code ApplicationContext} and cached, since their values are fully determined
+	 * by the context's {@link Environment}. This assumes that the {@code Environment}
+	 * is not modified after the context has been refreshed. Expressions containing
+	 * SpEL ({@code #{...}}) are evaluated on every invocation &mdash; including
+	 * expressions whose property placeholders resolve to SpEL.
 	 * <p>The dependency is required unless the parameter is annotated with
 	 * {@link Autowired @Autowired} with the {@link Autowired#required required}
 	 * flag set to {@code false}.
 	 * <p>If an explicit <em>qualifier</em> is not declared, the name of the parameter
 	 * will be used as the qualifier for resolving ambiguities.
+	 * <p>Unqualified parameters of well-known infrastructure types &mdash;
+	 * {@link ApplicationContext}, {@link BeanFactory}, {@link ResourceLoader}, and
+	 * {@link Environment} (or sub-types thereof) &mdash; are resolved directly
+	 * from the supplied {@code ApplicationContext} without creating a
+	 * {@link DependencyDescriptor}.
 	 * @param parameter the parameter whose dependency should be resolved
+	 * @param parameterIndex the index of the parameter in its declaring executable
 	 * @param containingClass the concrete class that contains the parameter; this may
 	 * differ from the class that declares the parameter in that it may be a subclass
 	 * thereof, potentially substituting type variables
@@ -88,22 +149,106 @@ abstract class ParameterAutowireUtils {
 	 * @throws BeansException if dependency resolution failed
 	 * @see #isAutowirable(Parameter)
 	 * @see Autowired#required
-	 * @see MethodParameterFactory#createSynthesizingMethodParameter(Parameter)
+	 * @see MethodParameterFactory#createSynthesizingMethodParameter(Parameter, int)
 	 * @see AutowireCapableBeanFactory#resolveDependency(DependencyDescriptor, String)
 	 */
-	public static Object resolveDependency(Parameter parameter, Class<?> containingClass,
+	public static Object resolveDependency(Parameter parameter, int parameterIndex, Class<?> containingClass,
+			ApplicationContext applicationContext) {
+
+		Object infrastructureDependency = resolveInfrastructureDependency(parameter, applicationContext);
+		if (infrastructureDependency != null) {
+			return infrastructureDependency;
+		}
+
+		if (isCacheableValueParameter(parameter)) {
+			Map<Parameter, Object> resolvedValues = resolvedValueParametersCache.computeIfAbsent(
+					applicationContext, key -> new ConcurrentHashMap<>(16));
+			Object value = resolvedValues.get(parameter);
+			if (value == null) {
+				value = doResolveDependency(parameter, parameterIndex, containingClass, applicationContext);
+				if (value != null && !resolvesToSpelExpression(parameter, applicationContext)) {
+					resolvedValues.put(parameter, value);
+				}
+			}
+			return value;
+		}
+
+		return doResolveDependency(parameter, parameterIndex, containingClass, applicationContext);
+	}
+
+	private static Object doResolveDependency(Parameter parameter, int parameterIndex, Class<?> containingClass,
 			ApplicationContext applicationContext) {
 
 		boolean required = findMergedAnnotation(parameter, Autowired.class).map(Autowired::required).orElse(true);
 		MethodParameter methodParameter = (parameter.getDeclaringExecutable() instanceof Method
-				? MethodParameterFactory.createSynthesizingMethodParameter(parameter)
-				: MethodParameterFactory.createMethodParameter(parameter));
+				? MethodParameterFactory.createSynthesizingMethodParameter(parameter, parameterIndex)
+				: MethodParameterFactory.createMethodParameter(parameter, parameterIndex));
 		DependencyDescriptor descriptor = new DependencyDescriptor(methodParameter, required);
 		descriptor.setContainingClass(containingClass);
 
 		return applicationContext.getAutowireCapableBeanFactory().resolveDependency(descriptor, null);
 	}
 
+	/**
+	 * Determine if the supplied {@link Parameter} is a {@link Value @Value}
+	 * parameter of a simple, immutable type whose expression does not contain
+	 * SpEL and can therefore be cached per {@link ApplicationContext}.
+	 */
+	private static boolean isCacheableValueParameter(Parameter parameter) {
+		Class<?> type = parameter.getType();
+		if (!(ClassUtils.isPrimitiveOrWrapper(type) || String.class == type || type.isEnum())) {
+			return false;
+		}
+		return findMergedAnnotation(parameter, Value.class)
+				.map(value -> !value.value().contains("#{"))
+				.orElse(false);
+	}
+
+	/**
+	 * Determine if the property placeholders in the {@link Value @Value} expression
+	 * of the supplied {@link Parameter} resolve to a SpEL expression, which the
+	 * bean factory evaluates after placeholder resolution.
+	 */
+	private static boolean resolvesToSpelExpression(Parameter parameter, ApplicationContext applicationContext) {
+		AutowireCapableBeanFactory beanFactory = applicationContext.getAutowireCapableBeanFactory();
+		if (!(beanFactory instanceof ConfigurableBeanFactory)) {
+			return true;
+		}
+		String expression = AnnotatedElementUtils.findMergedAnnotation(parameter, Value.class).value();
+		String resolvedExpression = ((ConfigurableBeanFactory) beanFactory).resolveEmbeddedValue(expression);
+		return (resolvedExpression == null || resolvedExpression.contains("#{"));
+	}
+
+	/**
+	 * Resolve the supplied {@link Parameter} directly against the infrastructure
+	 * objects that the {@link ApplicationContext} registers as resolvable
+	 * dependencies, mirroring the instances that
+	 * {@link AutowireCapableBeanFactory#resolveDependency} would return.
+	 * @return the infrastructure object, or {@code null} if the parameter is
+	 * qualified or not of a well-known infrastructure type
+	 */
+	private static Object resolveInfrastructureDependency(Parameter parameter,
+			ApplicationContext applicationContext) {
+
+		Class<?> type = parameter.getType();
+		if (hasAnnotation(parameter, Qualifier.class) || hasAnnotation(parameter, Value.class)) {
+			return null;
+		}
+		if ((ApplicationContext.class.isAssignableFrom(type) || ResourceLoader.class.isAssignableFrom(type)) &&
+				type.isInstance(applicationContext)) {
+			return applicationContext;
+		}
+		if (BeanFactory.class.isAssignableFrom(type)) {
+			BeanFactory beanFactory = applicationContext.getAutowireCapableBeanFactory();
+			return (type.isInstance(beanFactory) ? beanFactory : null);
+		}
+		if (Environment.class.isAssignableFrom(type)) {
+			Environment environment = applicationContext.getEnvironment();
+			return (type.isInstance(environment) ? environment : null);
+		}
+		return null;
+	}
+
 	private static <A extends Annotation> Optional<A> findMergedAnnotation(AnnotatedElement element,
 			Class<A> annotationType) {
 
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @ProfileContextRefresh} enables profiling of the refresh of the
+ * {@link org.springframework.context.ApplicationContext ApplicationContext}
+ * loaded for the annotated test class.
+ *
+ * <p>While the context is being refreshed, the time spent instantiating,
+ * populating, and initializing each bean is recorded. Once the refresh has
+ * completed, a report sorted by total time per bean is logged at {@code INFO}
+ * level and, if an {@link #outputDirectory} is configured, written to a
+ * {@code .txt} file along with a {@code .collapsed} file containing the bean
+ * creation stacks in the <em>collapsed stack</em> format consumed by flame
+ * graph tools.
+ *
+ * <p>Since profiling is applied via a
+ * {@link org.springframework.test.context.ContextCustomizer ContextCustomizer},
+ * a profiled configuration results in a separate entry in the context cache.
+ *
+ * @author agent
+ * @since 1.0
+ * @see ContextRefreshProfilerContextCustomizerFactory
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ProfileContextRefresh {
+
+	/**
+	 * The directory to which the report files are written.
+	 * <p>Defaults to an empty string, in which case the report is only logged.
+	 */
+	String outputDirectory() default "";
+
+}
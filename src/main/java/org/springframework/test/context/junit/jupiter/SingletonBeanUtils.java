@@ -0,0 +1,170 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.Assert;
+
+/**
+ * Collection of utilities for destroying and re-creating individual singleton
+ * beans, along with the beans that depend on them, within an existing
+ * {@link ApplicationContext}.
+ *
+ * @author agent
+ * @since 1.0
+ * @see DirtiesBeansTestExecutionListener
+ * @see OverrideBeanTestExecutionListener
+ */
+abstract class SingletonBeanUtils {
+
+	private SingletonBeanUtils() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the {@link DefaultListableBeanFactory} of the supplied {@link ApplicationContext}.
+	 * @param applicationContext the application context
+	 * @param feature the name of the feature requiring the bean factory, used in
+	 * error messages
+	 * @throws IllegalStateException if the context is not backed by a
+	 * {@code DefaultListableBeanFactory}
+	 */
+	public static DefaultListableBeanFactory getBeanFactory(ApplicationContext applicationContext, String feature) {
+		Assert.state(applicationContext instanceof ConfigurableApplicationContext,
+			feature + " requires a ConfigurableApplicationContext");
+		ConfigurableListableBeanFactory beanFactory =
+				((ConfigurableApplicationContext) applicationContext).getBeanFactory();
+		Assert.state(beanFactory instanceof DefaultListableBeanFactory,
+			feature + " requires a DefaultListableBeanFactory");
+		return (DefaultListableBeanFactory) beanFactory;
+	}
+
+	/**
+	 * Destroy the supplied singleton beans as well as all beans that
+	 * (transitively) depend on them.
+	 * <p>The dependency relationships of the destroyed beans are captured before
+	 * they are removed from the bean factory so that they can be re-registered by
+	 * {@link #recreateSingletons}.
+	 * @return the destroyed singletons
+	 * @see #recreateSingletons(DefaultListableBeanFactory, DestroyedSingletons)
+	 */
+	public static DestroyedSingletons destroySingletons(DefaultListableBeanFactory beanFactory, String... beanNames) {
+		Set<String> candidateBeanNames = new LinkedHashSet<>();
+		for (String beanName : beanNames) {
+			collectBeanAndDependents(beanFactory, beanName, candidateBeanNames);
+		}
+		DestroyedSingletons destroyedSingletons = new DestroyedSingletons();
+		for (String beanName : candidateBeanNames) {
+			if (beanFactory.containsSingleton(beanName)) {
+				destroyedSingletons.add(beanFactory, beanName);
+			}
+		}
+		// Also destroys all registered dependents.
+		for (String beanName : destroyedSingletons.getBeanNames()) {
+			beanFactory.destroySingleton(beanName);
+		}
+		return destroyedSingletons;
+	}
+
+	/**
+	 * Re-create the supplied destroyed singleton beans from their bean definitions
+	 * and re-register their dependency relationships.
+	 * <p>Beans without a bean definition are not re-created. Re-registering the
+	 * dependency relationships is necessary since the bean factory does not do so
+	 * when it re-creates a bean from cached constructor or factory method
+	 * arguments, which would otherwise prevent dependents from being found the
+	 * next time the bean is destroyed.
+	 * @see #destroySingletons(DefaultListableBeanFactory, String...)
+	 */
+	public static void recreateSingletons(DefaultListableBeanFactory beanFactory,
+			DestroyedSingletons destroyedSingletons) {
+
+		for (String beanName : destroyedSingletons.getBeanNames()) {
+			if (beanFactory.containsBeanDefinition(beanName)) {
+				BeanDefinition beanDefinition = beanFactory.getMergedBeanDefinition(beanName);
+				if (beanDefinition.isSingleton() && !beanDefinition.isAbstract()) {
+					beanFactory.getBean(beanName);
+				}
+			}
+		}
+		destroyedSingletons.getDependentBeans().forEach((beanName, dependentBeanNames) -> {
+			if (beanFactory.containsSingleton(beanName)) {
+				for (String dependentBeanName : dependentBeanNames) {
+					if (beanFactory.containsSingleton(dependentBeanName)) {
+						beanFactory.registerDependentBean(beanName, dependentBeanName);
+					}
+				}
+			}
+		});
+	}
+
+	private static void collectBeanAndDependents(DefaultListableBeanFactory beanFactory, String beanName,
+			Set<String> beanNames) {
+
+		if (beanNames.add(beanName)) {
+			for (String dependentBeanName : beanFactory.getDependentBeans(beanName)) {
+				collectBeanAndDependents(beanFactory, dependentBeanName, beanNames);
+			}
+		}
+	}
+
+
+	/**
+	 * The names of destroyed singleton beans along with the dependency
+	 * relationships in which they participated.
+	 */
+	static final class DestroyedSingletons {
+
+		private final Set<String> beanNames = new LinkedHashSet<>();
+
+		/** Dependent bean names, keyed by the name of the bean they depend on. */
+		private final Map<String, Set<String>> dependentBeans = new LinkedHashMap<>();
+
+
+		private void add(DefaultListableBeanFactory beanFactory, String beanName) {
+			this.beanNames.add(beanName);
+			for (String dependentBeanName : beanFactory.getDependentBeans(beanName)) {
+				addDependentBean(beanName, dependentBeanName);
+			}
+			for (String dependencyBeanName : beanFactory.getDependenciesForBean(beanName)) {
+				addDependentBean(dependencyBeanName, beanName);
+			}
+		}
+
+		private void addDependentBean(String beanName, String dependentBeanName) {
+			this.dependentBeans.computeIfAbsent(beanName, key -> new LinkedHashSet<>()).add(dependentBeanName);
+		}
+
+		Set<String> getBeanNames() {
+			return this.beanNames;
+		}
+
+		Map<String, Set<String>> getDependentBeans() {
+			return this.dependentBeans;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2017 the original author or authors.
+ * Copyright 2002-2019 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,11 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -32,11 +36,13 @@ import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 
+import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.test.context.TestContextManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@code SpringExtension} integrates the <em>Spring TestContext Framework</em>
@@ -46,6 +52,13 @@ import org.springframework.util.Assert;
  * {@code @ExtendWith(SpringExtension.class)}, {@code @SpringJUnitJupiterConfig}, or
  * {@code @SpringJUnitJupiterWebConfig}.
  *
+ * <p>If {@code TRACE} logging is enabled for this class, the duration of each
+ * lifecycle callback and parameter resolution is logged as a single line of
+ * {@code key=value} pairs as soon as the callback completes, allowing the
+ * timings to be streamed to and post-processed from any logging backend.
+ * Aggregated per-class metrics can be published as JUnit report entries via
+ * the {@value #METRICS_ENABLED_PROPERTY_NAME} configuration parameter.
+ *
  * @author Sam Brannen
  * @since 5.0
  * @see org.springframework.test.context.junit.jupiter.SpringJUnitJupiterConfig
@@ -57,17 +70,44 @@ public class SpringExtension implements BeforeAllCallback, AfterAllCallback, Tes
 
 	/**
 	 * {@link Namespace} in which {@code TestContextManagers} are stored,
-	 * keyed by test class.
+	 * keyed by test class, in which resolved parameters are stored,
+	 * keyed by constructor or method, and in which {@link TestClassMetrics}
+	 * are stored in the store of the test class they are recorded for.
 	 */
 	private static final Namespace NAMESPACE = Namespace.create(SpringExtension.class);
 
+	private static final Log logger = LogFactory.getLog(SpringExtension.class);
+
+	/**
+	 * JUnit Platform configuration parameter used to enable publication of
+	 * per-class {@code SpringExtension} metrics as report entries:
+	 * {@value #METRICS_ENABLED_PROPERTY_NAME}.
+	 * <p>When set to {@code true}, the wall time of each test class as well as
+	 * the invocation count and total duration of each lifecycle callback and
+	 * parameter resolution are published via
+	 * {@link ExtensionContext#publishReportEntry(Map)} after all tests in the
+	 * class have run. Build tools typically include report entries in their
+	 * XML test reports.
+	 * @since 1.0
+	 */
+	public static final String METRICS_ENABLED_PROPERTY_NAME = "spring.test.junit.jupiter.metrics.enabled";
+
+	/**
+	 * Cache of autowirable parameter flags, keyed by constructor or method.
+	 * @see #getAutowirableParameters(Executable)
+	 */
+	private static final Map<Executable, boolean[]> autowirableParametersCache =
+			new ConcurrentReferenceHashMap<>(64);
+
 
 	/**
 	 * Delegates to {@link TestContextManager#beforeTestClass}.
 	 */
 	@Override
 	public void beforeAll(ExtensionContext context) throws Exception {
+		long startTime = System.nanoTime();
 		getTestContextManager(context).beforeTestClass();
+		recordTiming("beforeTestClass", context, startTime);
 	}
 
 	/**
@@ -76,10 +116,16 @@ public class SpringExtension implements BeforeAllCallback, AfterAllCallback, Tes
 	@Override
 	public void afterAll(ExtensionContext context) throws Exception {
 		try {
+			long startTime = System.nanoTime();
 			getTestContextManager(context).afterTestClass();
+			recordTiming("afterTestClass", context, startTime);
 		}
 		finally {
 			getStore(context).remove(context.getRequiredTestClass());
+			TestClassMetrics metrics = context.getStore(NAMESPACE).remove(TestClassMetrics.class, TestClassMetrics.class);
+			if (metrics != null) {
+				context.publishReportEntry(metrics.toReportEntry());
+			}
 		}
 	}
 
@@ -88,7 +134,9 @@ public class SpringExtension implements BeforeAllCallback, AfterAllCallback, Tes
 	 */
 	@Override
 	public void postProcessTestInstance(Object testInstance, ExtensionContext context) throws Exception {
+		long startTime = System.nanoTime();
 		getTestContextManager(context).prepareTestInstance(testInstance);
+		recordTiming("prepareTestInstance", context, startTime);
 	}
 
 	/**
@@ -98,7 +146,9 @@ public class SpringExtension implements BeforeAllCallback, AfterAllCallback, Tes
 	public void beforeEach(ExtensionContext context) throws Exception {
 		Object testInstance = context.getRequiredTestInstance();
 		Method testMethod = context.getRequiredTestMethod();
+		long startTime = System.nanoTime();
 		getTestContextManager(context).beforeTestMethod(testInstance, testMethod);
+		recordTiming("beforeTestMethod", context, startTime);
 	}
 
 	/**
@@ -109,7 +159,9 @@ public class SpringExtension implements BeforeAllCallback, AfterAllCallback, Tes
 		Object testInstance = context.getRequiredTestInstance();
 		Method testMethod = context.getRequiredTestMethod();
 		Throwable testException = context.getExecutionException().orElse(null);
+		long startTime = System.nanoTime();
 		getTestContextManager(context).afterTestMethod(testInstance, testMethod, testException);
+		recordTiming("afterTestMethod", context, startTime);
 	}
 
 	/**
@@ -122,33 +174,97 @@ public class SpringExtension implements BeforeAllCallback, AfterAllCallback, Tes
 	 * that is annotated with {@code @Autowired}, Spring will assume the responsibility
 	 * for resolving all parameters in the constructor. Consequently, no other registered
 	 * {@link ParameterResolver} will be able to resolve parameters.
+	 * <p>The outcome is computed once for all parameters of the declaring
+	 * executable and cached, since JUnit queries each parameter separately.
 	 * @see #resolveParameter
 	 * @see ParameterAutowireUtils#isAutowirable
 	 */
 	@Override
 	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
-		Parameter parameter = parameterContext.getParameter();
-		Executable executable = parameter.getDeclaringExecutable();
-		return (executable instanceof Constructor &&
-				AnnotatedElementUtils.hasAnnotation(executable, Autowired.class)) ||
-				ParameterAutowireUtils.isAutowirable(parameter);
+		Executable executable = parameterContext.getParameter().getDeclaringExecutable();
+		return getAutowirableParameters(executable)[parameterContext.getIndex()];
 	}
 
 	/**
 	 * Resolve a value for the {@link Parameter} in the supplied {@link ParameterContext} by
 	 * retrieving the corresponding dependency from the test's {@link ApplicationContext}.
+	 * <p>When JUnit asks for the first autowirable parameter of a constructor or
+	 * method, all autowirable parameters of that executable are resolved in a single
+	 * pass and stored in the supplied {@code ExtensionContext}; subsequent parameters
+	 * are then served from that batch. Parameters whose resolution failed during the
+	 * batch are resolved individually so that failures are reported for the correct
+	 * parameter.
 	 * <p>Delegates to {@link ParameterAutowireUtils#resolveDependency}.
 	 * @see #supportsParameter
 	 * @see ParameterAutowireUtils#resolveDependency
 	 */
 	@Override
 	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		long startTime = System.nanoTime();
+		Object value = doResolveParameter(parameterContext, extensionContext);
+		recordTiming("resolveParameter", extensionContext, startTime);
+		return value;
+	}
+
+	private Object doResolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		Parameter parameter = parameterContext.getParameter();
+		int index = parameterContext.getIndex();
+		Executable executable = parameter.getDeclaringExecutable();
+		Store store = extensionContext.getStore(NAMESPACE);
+
+		Map<Integer, Object> resolvedParameters;
+		if (index == getFirstAutowirableParameterIndex(executable)) {
+			resolvedParameters = resolveParameters(executable, extensionContext);
+			store.put(executable, resolvedParameters);
+		}
+		else {
+			resolvedParameters = getResolvedParameters(store, executable);
+		}
+
+		if (resolvedParameters != null && resolvedParameters.containsKey(index)) {
+			Object value = resolvedParameters.remove(index);
+			if (resolvedParameters.isEmpty()) {
+				store.remove(executable);
+			}
+			return value;
+		}
+
+		Class<?> testClass = extensionContext.getRequiredTestClass();
+		ApplicationContext applicationContext = getApplicationContext(extensionContext);
+		return ParameterAutowireUtils.resolveDependency(parameter, index, testClass, applicationContext);
+	}
+
+	/**
+	 * Resolve all autowirable parameters of the supplied {@link Executable}
+	 * against a single lookup of the test's {@link ApplicationContext}.
+	 * @return a mutable map of resolved values keyed by parameter index; parameters
+	 * that could not be resolved are omitted
+	 */
+	private static Map<Integer, Object> resolveParameters(Executable executable, ExtensionContext extensionContext) {
 		Class<?> testClass = extensionContext.getRequiredTestClass();
 		ApplicationContext applicationContext = getApplicationContext(extensionContext);
-		return ParameterAutowireUtils.resolveDependency(parameter, testClass, applicationContext);
+		boolean[] autowirable = getAutowirableParameters(executable);
+		Parameter[] parameters = executable.getParameters();
+		Map<Integer, Object> resolvedParameters = new HashMap<>(parameters.length);
+		for (int i = 0; i < parameters.length; i++) {
+			if (autowirable[i]) {
+				try {
+					resolvedParameters.put(i,
+						ParameterAutowireUtils.resolveDependency(parameters[i], i, testClass, applicationContext));
+				}
+				catch (BeansException ex) {
+					// Resolved again individually in resolveParameter() in order to
+					// attribute the failure to the correct parameter.
+				}
+			}
+		}
+		return resolvedParameters;
 	}
 
+	@SuppressWarnings("unchecked")
+	private static Map<Integer, Object> getResolvedParameters(Store store, Executable executable) {
+		return store.get(executable, Map.class);
+	}
 
 	/**
 	 * Get the {@link ApplicationContext} associated with the supplied {@code ExtensionContext}.
@@ -172,6 +288,58 @@ public class SpringExtension implements BeforeAllCallback, AfterAllCallback, Tes
 		return store.getOrComputeIfAbsent(testClass, TestContextManager::new, TestContextManager.class);
 	}
 
+	/**
+	 * Determine which parameters of the supplied {@link Executable} can be
+	 * autowired from the test's {@link ApplicationContext}, avoiding repeated
+	 * meta-annotation lookups for the same constructor or method.
+	 * @param executable the constructor or method declaring the parameters
+	 * @return a flag per parameter index (never {@code null})
+	 * @see #supportsParameter
+	 */
+	private static boolean[] getAutowirableParameters(Executable executable) {
+		boolean[] autowirable = autowirableParametersCache.get(executable);
+		if (autowirable == null) {
+			boolean autowiredConstructor = (executable instanceof Constructor &&
+					AnnotatedElementUtils.hasAnnotation(executable, Autowired.class));
+			Parameter[] parameters = executable.getParameters();
+			autowirable = new boolean[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				autowirable[i] = (autowiredConstructor || ParameterAutowireUtils.isAutowirable(parameters[i]));
+			}
+			autowirableParametersCache.put(executable, autowirable);
+		}
+		return autowirable;
+	}
+
+	private static int getFirstAutowirableParameterIndex(Executable executable) {
+		boolean[] autowirable = getAutowirableParameters(executable);
+		for (int i = 0; i < autowirable.length; i++) {
+			if (autowirable[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void recordTiming(String event, ExtensionContext context, long startTime) {
+		long duration = System.nanoTime() - startTime;
+		if (logger.isTraceEnabled()) {
+			logger.trace(String.format("event=%s uniqueId=%s durationMicros=%d", event, context.getUniqueId(),
+				duration / 1000));
+		}
+		if (context.getConfigurationParameter(METRICS_ENABLED_PROPERTY_NAME).map(Boolean::valueOf).orElse(false)) {
+			// Metrics are created on first use, since postProcessTestInstance() is
+			// invoked before beforeAll() for a PER_CLASS test instance lifecycle.
+			ExtensionContext classContext = context;
+			while (classContext.getTestMethod().isPresent()) {
+				classContext = classContext.getParent().get();
+			}
+			classContext.getStore(NAMESPACE)
+					.getOrComputeIfAbsent(TestClassMetrics.class, key -> new TestClassMetrics(startTime), TestClassMetrics.class)
+					.record(event, duration);
+		}
+	}
+
 	private static Store getStore(ExtensionContext context) {
 		return context.getRoot().getStore(NAMESPACE);
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2019 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,15 @@ import org.springframework.test.context.ContextConfiguration;
  * {@link ContextConfiguration @ContextConfiguration} from the
  * <em>Spring TestContext Framework</em>.
  *
+ * <p>Test classes whose declarations resolve to the same merged context
+ * configuration share a single cached {@code ApplicationContext}: the
+ * aliases declared here are merged by the <em>Spring TestContext Framework</em>
+ * before the context cache key is computed, and attributes such as {@link #name}
+ * do not contribute to that key. Note, however, that the order of
+ * {@link #classes} and {@link #locations} is significant, since bean definitions
+ * from later sources override those from earlier ones; differently ordered
+ * declarations therefore intentionally result in distinct contexts.
+ *
  * @author Sam Brannen
  * @since 5.0
  * @see ExtendWith
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Accumulator for the timings recorded by the {@link SpringExtension} for a
+ * single test class, which are published as a JUnit report entry once the
+ * test class has completed.
+ *
+ * <p>Each event is tracked by a pre-allocated pair of counters; recording a
+ * timing does not allocate once an event has been seen for the first time.
+ *
+ * @author agent
+ * @since 1.0
+ * @see SpringExtension#METRICS_ENABLED_PROPERTY_NAME
+ */
+final class TestClassMetrics {
+
+	private static final String KEY_PREFIX = "spring.";
+
+	private final long startTime;
+
+	/**
+	 * Invocation count and total duration in nanoseconds, keyed by event name.
+	 */
+	private final Map<String, long[]> timings = new LinkedHashMap<>();
+
+
+	/**
+	 * Create metrics for a test class whose first recorded event started at
+	 * the supplied {@link System#nanoTime()}.
+	 */
+	TestClassMetrics(long startTime) {
+		this.startTime = startTime;
+	}
+
+
+	synchronized void record(String event, long durationNanos) {
+		long[] timing = this.timings.computeIfAbsent(event, key -> new long[2]);
+		timing[0]++;
+		timing[1] += durationNanos;
+	}
+
+	/**
+	 * Create a report entry containing the wall time of the test class as well
+	 * as the invocation count and total duration of each recorded event.
+	 */
+	synchronized Map<String, String> toReportEntry() {
+		Map<String, String> entry = new LinkedHashMap<>();
+		entry.put(KEY_PREFIX + "wallTimeMicros", String.valueOf((System.nanoTime() - this.startTime) / 1000));
+		this.timings.forEach((event, timing) -> {
+			entry.put(KEY_PREFIX + event + ".count", String.valueOf(timing[0]));
+			entry.put(KEY_PREFIX + event + ".totalMicros", String.valueOf(timing[1] / 1000));
+		});
+		return entry;
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.Scope;
+
+/**
+ * {@link Scope} which binds beans to the currently executing test method.
+ *
+ * <p>A bean declared with {@code @Scope(TestMethodScope.NAME)} is created
+ * on first access within a test method and destroyed once the test method has
+ * completed, which provides fresh instances of stateful beans for each test
+ * without having to mark the entire context as dirty. Use a scoped proxy
+ * (e.g., {@code proxyMode = ScopedProxyMode.TARGET_CLASS}) when injecting
+ * such a bean into a singleton or into a {@code PER_CLASS} test instance.
+ *
+ * <p>Beans which are expensive to construct may implement {@link Resettable}:
+ * instead of being destroyed, such beans are reset and pooled at the end of
+ * the test method and reused for the next test method. Pooled beans are
+ * destroyed when the application context is closed.
+ *
+ * <p>This scope is registered in every test {@code ApplicationContext} by the
+ * {@link TestMethodScopeContextCustomizerFactory} and ended after each test
+ * method by the {@link TestMethodScopeTestExecutionListener}. It is not
+ * intended for test methods executing concurrently against the same context.
+ *
+ * @author agent
+ * @since 1.0
+ * @see TestMethodScopeTestExecutionListener
+ */
+public class TestMethodScope implements Scope {
+
+	/**
+	 * The name of this scope: {@value #NAME}.
+	 */
+	public static final String NAME = "testMethod";
+
+
+	private final Map<String, Object> scopedObjects = new LinkedHashMap<>();
+
+	private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>();
+
+	private final Map<String, Object> pooledObjects = new LinkedHashMap<>();
+
+	private final Map<String, Runnable> pooledDestructionCallbacks = new LinkedHashMap<>();
+
+
+	@Override
+	public synchronized Object get(String name, ObjectFactory<?> objectFactory) {
+		Object scopedObject = this.scopedObjects.get(name);
+		if (scopedObject == null) {
+			scopedObject = this.pooledObjects.remove(name);
+			if (scopedObject != null) {
+				Runnable callback = this.pooledDestructionCallbacks.remove(name);
+				if (callback != null) {
+					this.destructionCallbacks.put(name, callback);
+				}
+			}
+			else {
+				scopedObject = objectFactory.getObject();
+			}
+			this.scopedObjects.put(name, scopedObject);
+		}
+		return scopedObject;
+	}
+
+	@Override
+	public synchronized Object remove(String name) {
+		this.destructionCallbacks.remove(name);
+		return this.scopedObjects.remove(name);
+	}
+
+	@Override
+	public synchronized void registerDestructionCallback(String name, Runnable callback) {
+		this.destructionCallbacks.put(name, callback);
+	}
+
+	@Override
+	public Object resolveContextualObject(String key) {
+		return null;
+	}
+
+	@Override
+	public String getConversationId() {
+		return null;
+	}
+
+	/**
+	 * End the current test method by resetting and pooling all
+	 * {@link Resettable} beans and destroying all other beans in this scope.
+	 */
+	public synchronized void endTestMethod() {
+		this.scopedObjects.forEach((name, scopedObject) -> {
+			Runnable callback = this.destructionCallbacks.remove(name);
+			if (scopedObject instanceof Resettable) {
+				((Resettable) scopedObject).reset();
+				this.pooledObjects.put(name, scopedObject);
+				if (callback != null) {
+					this.pooledDestructionCallbacks.put(name, callback);
+				}
+			}
+			else if (callback != null) {
+				callback.run();
+			}
+		});
+		this.scopedObjects.clear();
+	}
+
+	/**
+	 * Destroy all beans in this scope, including pooled beans.
+	 */
+	public synchronized void destroy() {
+		this.destructionCallbacks.values().forEach(Runnable::run);
+		this.pooledDestructionCallbacks.values().forEach(Runnable::run);
+		this.scopedObjects.clear();
+		this.destructionCallbacks.clear();
+		this.pooledObjects.clear();
+		this.pooledDestructionCallbacks.clear();
+	}
+
+
+	/**
+	 * Interface to be implemented by beans in the {@link TestMethodScope} that
+	 * are expensive to construct and can be reset to their initial state for
+	 * reuse in subsequent test methods instead of being destroyed.
+	 */
+	public interface Resettable {
+
+		/**
+		 * Reset this bean to its initial state.
+		 */
+		void reset();
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * {@link ContextCustomizer} which registers a new {@link TestMethodScope}
+ * with the bean factory and destroys the scope when the context is closed.
+ *
+ * @author agent
+ * @since 1.0
+ * @see TestMethodScopeContextCustomizerFactory
+ */
+class TestMethodScopeContextCustomizer implements ContextCustomizer {
+
+	@Override
+	public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+		TestMethodScope scope = new TestMethodScope();
+		context.getBeanFactory().registerScope(TestMethodScope.NAME, scope);
+		context.addApplicationListener(new ApplicationListener<ContextClosedEvent>() {
+			@Override
+			public void onApplicationEvent(ContextClosedEvent event) {
+				if (event.getApplicationContext() == context) {
+					scope.destroy();
+				}
+			}
+		});
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return (this == other || other instanceof TestMethodScopeContextCustomizer);
+	}
+
+	@Override
+	public int hashCode() {
+		return TestMethodScopeContextCustomizer.class.hashCode();
+	}
+
+}
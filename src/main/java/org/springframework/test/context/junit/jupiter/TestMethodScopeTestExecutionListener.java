@@ -0,0 +1,66 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * {@code TestExecutionListener} which ends the {@link TestMethodScope} of the
+ * test's {@link ApplicationContext} and its ancestors after each test method.
+ *
+ * <p>This listener is registered by default via {@code META-INF/spring.factories}.
+ *
+ * @author agent
+ * @since 1.0
+ * @see TestMethodScope
+ */
+public class TestMethodScopeTestExecutionListener extends AbstractTestExecutionListener {
+
+	/**
+	 * Returns {@code 3600}.
+	 */
+	@Override
+	public final int getOrder() {
+		return 3600;
+	}
+
+	/**
+	 * Ends the {@link TestMethodScope} of the test's {@link ApplicationContext}
+	 * and of each of its ancestors, if registered.
+	 * <p>Every level of a context hierarchy registers its own scope.
+	 * @see TestMethodScope#endTestMethod()
+	 */
+	@Override
+	public void afterTestMethod(TestContext testContext) throws Exception {
+		ApplicationContext applicationContext = testContext.getApplicationContext();
+		while (applicationContext != null) {
+			if (applicationContext instanceof ConfigurableApplicationContext) {
+				Scope scope = ((ConfigurableApplicationContext) applicationContext).getBeanFactory()
+						.getRegisteredScope(TestMethodScope.NAME);
+				if (scope instanceof TestMethodScope) {
+					((TestMethodScope) scope).endTestMethod();
+				}
+			}
+			applicationContext = applicationContext.getParent();
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter.params;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link ArgumentsProvider} for {@link BeanSource @BeanSource}.
+ *
+ * @author agent
+ * @since 1.0
+ * @see BeanSource
+ */
+class BeanArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<BeanSource> {
+
+	private String beanName;
+
+	private String methodName;
+
+
+	@Override
+	public void accept(BeanSource beanSource) {
+		this.beanName = beanSource.value();
+		this.methodName = beanSource.method();
+	}
+
+	@Override
+	public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+		ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+		Object bean = applicationContext.getBean(this.beanName);
+		if (this.methodName.isEmpty() && (bean instanceof BaseStream || bean instanceof Iterator)) {
+			throw new IllegalStateException(String.format(
+				"Cannot provide arguments from bean '%s' of type [%s]: streams and iterators can only be " +
+				"consumed once; declare a method on a bean that returns a new instance for each invocation instead",
+				this.beanName, bean.getClass().getName()));
+		}
+		Object source = (this.methodName.isEmpty() ? bean : invokeMethod(bean));
+		return toStream(source).map(BeanArgumentsProvider::toArguments);
+	}
+
+	private Object invokeMethod(Object bean) {
+		Method method = ReflectionUtils.findMethod(bean.getClass(), this.methodName);
+		if (method == null) {
+			throw new IllegalStateException(String.format(
+				"Could not find no-arg method [%s] on bean '%s' of type [%s]",
+				this.methodName, this.beanName, bean.getClass().getName()));
+		}
+		ReflectionUtils.makeAccessible(method);
+		return ReflectionUtils.invokeMethod(method, bean);
+	}
+
+	private Stream<?> toStream(Object source) {
+		if (source instanceof Stream) {
+			return (Stream<?>) source;
+		}
+		if (source instanceof BaseStream) {
+			BaseStream<?, ?> baseStream = (BaseStream<?, ?>) source;
+			return toStream(baseStream.iterator()).onClose(baseStream::close);
+		}
+		if (source instanceof Iterable) {
+			return StreamSupport.stream(((Iterable<?>) source).spliterator(), false);
+		}
+		if (source instanceof Iterator) {
+			return toStream((Iterator<?>) source);
+		}
+		if (source != null && source.getClass().isArray()) {
+			return Arrays.stream(ObjectUtils.toObjectArray(source));
+		}
+		throw new IllegalStateException(String.format(
+			"Cannot provide arguments from bean '%s'%s: [%s] is not a Stream, Iterable, Iterator, or array",
+			this.beanName, (this.methodName.isEmpty() ? "" : " via method [" + this.methodName + "]"),
+			(source != null ? source.getClass().getName() : null)));
+	}
+
+	private static Stream<?> toStream(Iterator<?> iterator) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+	}
+
+	private static Arguments toArguments(Object element) {
+		if (element instanceof Arguments) {
+			return (Arguments) element;
+		}
+		if (element instanceof Object[]) {
+			return Arguments.of((Object[]) element);
+		}
+		return Arguments.of(element);
+	}
+
+}
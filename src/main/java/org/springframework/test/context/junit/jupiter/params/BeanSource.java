@@ -0,0 +1,75 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter.params;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * {@code @BeanSource} is an {@link ArgumentsSource} which provides the arguments
+ * for a {@link org.junit.jupiter.params.ParameterizedTest @ParameterizedTest}
+ * from a bean in the test's {@link org.springframework.context.ApplicationContext
+ * ApplicationContext}.
+ *
+ * <p>The arguments are obtained either from the bean itself or from the
+ * return value of the no-arg {@link #method} invoked on the bean. Supported
+ * sources are a {@link java.util.stream.Stream Stream} (including primitive
+ * streams), an {@link Iterable}, an {@link java.util.Iterator Iterator}, or an
+ * array. Streams are consumed lazily, one invocation at a time, which allows a
+ * very large number of arguments to be supplied with constant memory. Each
+ * element is either an {@link org.junit.jupiter.params.provider.Arguments
+ * Arguments} instance, an {@code Object[]} providing multiple arguments, or a
+ * single argument.
+ *
+ * <p>Since beans are typically singletons, a bean used directly as the source
+ * must be reusable &mdash; for example, an {@code Iterable} or an array.
+ * Streams and iterators can only be consumed once and must therefore be
+ * returned from a {@link #method} which creates a new instance per invocation.
+ *
+ * <p>The test class must be configured to use the
+ * {@link org.springframework.test.context.junit.jupiter.SpringExtension
+ * SpringExtension}.
+ *
+ * @author agent
+ * @since 1.0
+ * @see BeanArgumentsProvider
+ * @see org.springframework.test.context.junit.jupiter.SpringExtension#getApplicationContext
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(BeanArgumentsProvider.class)
+public @interface BeanSource {
+
+	/**
+	 * The name of the bean from which the arguments are obtained.
+	 */
+	String value();
+
+	/**
+	 * The name of a no-arg method on the bean which returns the arguments.
+	 * <p>Defaults to an empty string, in which case the bean itself is used
+	 * as the source of the arguments.
+	 */
+	String method() default "";
+
+}
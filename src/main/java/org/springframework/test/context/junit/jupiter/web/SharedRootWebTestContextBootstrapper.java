@@ -0,0 +1,65 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter.web;
+
+import org.springframework.test.context.ContextLoader;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.web.AbstractGenericWebContextLoader;
+import org.springframework.test.context.web.WebDelegatingSmartContextLoader;
+import org.springframework.test.context.web.WebMergedContextConfiguration;
+import org.springframework.test.context.web.WebTestContextBootstrapper;
+
+/**
+ * {@link WebTestContextBootstrapper} which allows the root context of a
+ * {@link org.springframework.test.context.ContextHierarchy @ContextHierarchy}
+ * to be shared across web test classes that differ only in servlet-level
+ * settings such as the {@link org.springframework.test.context.web.WebAppConfiguration
+ * resource path}.
+ *
+ * <p>The standard {@code WebTestContextBootstrapper} turns every level of a
+ * hierarchy into a {@link WebMergedContextConfiguration}, so the resource path
+ * becomes part of the cache key of the root context as well. This bootstrapper
+ * leaves the root level as a plain {@link MergedContextConfiguration} if it
+ * explicitly declares a non-web {@link ContextLoader} (for example,
+ * {@link org.springframework.test.context.support.AnnotationConfigContextLoader
+ * AnnotationConfigContextLoader}). The heavy root context is then loaded once,
+ * and each test class only loads a lightweight child
+ * {@code WebApplicationContext} bound to its own {@code MockServletContext}.
+ *
+ * <p>Register this bootstrapper via
+ * {@link org.springframework.test.context.BootstrapWith @BootstrapWith}.
+ *
+ * @author agent
+ * @since 1.0
+ * @see SpringJUnitJupiterWebConfig
+ */
+public class SharedRootWebTestContextBootstrapper extends WebTestContextBootstrapper {
+
+	@Override
+	protected MergedContextConfiguration processMergedContextConfiguration(MergedContextConfiguration mergedConfig) {
+		if (mergedConfig.getParent() == null && !isWebContextLoader(mergedConfig.getContextLoader())) {
+			return mergedConfig;
+		}
+		return super.processMergedContextConfiguration(mergedConfig);
+	}
+
+	private static boolean isWebContextLoader(ContextLoader contextLoader) {
+		return (contextLoader instanceof AbstractGenericWebContextLoader ||
+				contextLoader instanceof WebDelegatingSmartContextLoader);
+	}
+
+}
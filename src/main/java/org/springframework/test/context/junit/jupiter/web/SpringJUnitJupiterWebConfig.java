@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2019 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,16 @@ import org.springframework.test.context.web.WebAppConfiguration;
  * {@link WebAppConfiguration @WebAppConfiguration} from the
  * <em>Spring TestContext Framework</em>.
  *
+ * <p>Context caching follows the same rules as for
+ * {@link org.springframework.test.context.junit.jupiter.SpringJUnitJupiterConfig
+ * @SpringJUnitJupiterConfig}.
+ *
+ * <p>To share a heavy root context across web test classes that differ only in
+ * servlet-level settings such as the {@link #resourcePath}, declare a
+ * {@link org.springframework.test.context.ContextHierarchy @ContextHierarchy}
+ * whose root level uses a non-web context loader and register the
+ * {@link SharedRootWebTestContextBootstrapper}.
+ *
  * @author Sam Brannen
  * @since 5.0
  * @see ExtendWith
@@ -46,6 +56,7 @@ import org.springframework.test.context.web.WebAppConfiguration;
  * @see ContextConfiguration
  * @see WebAppConfiguration
  * @see org.springframework.test.context.junit.jupiter.SpringJUnitJupiterConfig
+ * @see SharedRootWebTestContextBootstrapper
  */
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration
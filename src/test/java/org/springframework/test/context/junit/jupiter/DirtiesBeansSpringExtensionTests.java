@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Integration tests which verify support for {@link DirtiesBeans @DirtiesBeans}
+ * in conjunction with the {@link SpringExtension}.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see DirtiesBeans
+ * @see DirtiesBeansTestExecutionListener
+ */
+@SpringJUnitJupiterConfig(MutableBeansTestConfig.class)
+@TestMethodOrder(OrderAnnotation.class)
+class DirtiesBeansSpringExtensionTests {
+
+	static ApplicationContext previousApplicationContext;
+
+	static AtomicInteger previousCounter;
+
+
+	@Test
+	@Order(1)
+	@DirtiesBeans("counter")
+	void dirtyCounter(ApplicationContext applicationContext, @Autowired AtomicInteger counter) {
+		previousApplicationContext = applicationContext;
+		previousCounter = counter;
+		assertEquals(1, counter.incrementAndGet(), "counter");
+	}
+
+	@Test
+	@Order(2)
+	@DirtiesBeans("counter")
+	void counterAndDependentsRecreatedInSameContext(ApplicationContext applicationContext,
+			@Autowired AtomicInteger counter, @Autowired AtomicReference<AtomicInteger> counterHolder) {
+
+		assertSame(previousApplicationContext, applicationContext, "ApplicationContext should not be reloaded");
+		assertNotSame(previousCounter, counter, "counter should have been re-created");
+		assertEquals(0, counter.get(), "counter");
+		assertSame(counter, counterHolder.get(), "dependent bean should have been re-created");
+		previousCounter = counter;
+		assertEquals(1, counter.incrementAndGet(), "counter");
+	}
+
+	@Test
+	@Order(3)
+	void counterAndDependentsRecreatedAgainWhenDirtiedTwice(ApplicationContext applicationContext,
+			@Autowired AtomicInteger counter, @Autowired AtomicReference<AtomicInteger> counterHolder) {
+
+		assertSame(previousApplicationContext, applicationContext, "ApplicationContext should not be reloaded");
+		assertNotSame(previousCounter, counter, "counter should have been re-created");
+		assertEquals(0, counter.get(), "counter");
+		assertSame(counter, counterHolder.get(), "dependent bean should have been re-created");
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Utilities for executing test case classes via the JUnit Platform
+ * {@link Launcher} from within integration tests.
+ *
+ * <p>Test case classes are declared as static nested classes of the tests
+ * that launch them and annotated with
+ * {@link org.junit.jupiter.api.extension.ExtendWith @ExtendWith(EnabledWhenLaunched.class)}
+ * so that they are skipped when discovered by the build or by
+ * {@link SpringExtensionTestSuite}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+abstract class LauncherTestUtils {
+
+	private static final String LAUNCHED_PROPERTY_NAME = LauncherTestUtils.class.getName() + ".launched";
+
+
+	private LauncherTestUtils() {
+		/* no-op */
+	}
+
+	/**
+	 * Execute the supplied test case class with the supplied JUnit Platform
+	 * configuration parameters.
+	 * @return the recorded execution events
+	 */
+	static ExecutionRecorder execute(Class<?> testClass, Map<String, String> configurationParameters) {
+		Map<String, String> parameters = new HashMap<>(configurationParameters);
+		parameters.put(LAUNCHED_PROPERTY_NAME, "true");
+		ExecutionRecorder recorder = new ExecutionRecorder();
+		LauncherFactory.create().execute(LauncherDiscoveryRequestBuilder.request()
+				.selectors(selectClass(testClass))
+				.configurationParameters(parameters)
+				.build(), recorder);
+		return recorder;
+	}
+
+	/**
+	 * Execute the supplied test case class.
+	 * @return the recorded execution events
+	 */
+	static ExecutionRecorder execute(Class<?> testClass) {
+		return execute(testClass, Collections.emptyMap());
+	}
+
+
+	/**
+	 * {@link ExecutionCondition} which only enables test case classes that are
+	 * executed via {@link LauncherTestUtils#execute}.
+	 */
+	static class EnabledWhenLaunched implements ExecutionCondition {
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			return (context.getConfigurationParameter(LAUNCHED_PROPERTY_NAME).isPresent()
+					? ConditionEvaluationResult.enabled("Launched via LauncherTestUtils")
+					: ConditionEvaluationResult.disabled("Only executed via LauncherTestUtils"));
+		}
+	}
+
+	/**
+	 * {@link TestExecutionListener} which records the outcome of tests and the
+	 * published report entries.
+	 */
+	static class ExecutionRecorder implements TestExecutionListener {
+
+		private final List<TestIdentifier> succeededTests = new ArrayList<>();
+
+		private final List<Throwable> failures = new ArrayList<>();
+
+		private final List<Map<String, String>> reportEntries = new ArrayList<>();
+
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+			if (result.getStatus() == TestExecutionResult.Status.SUCCESSFUL) {
+				if (testIdentifier.isTest()) {
+					this.succeededTests.add(testIdentifier);
+				}
+			}
+			else {
+				this.failures.add(result.getThrowable().orElseThrow(IllegalStateException::new));
+			}
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			this.reportEntries.add(entry.getKeyValuePairs());
+		}
+
+		List<TestIdentifier> getSucceededTests() {
+			return this.succeededTests;
+		}
+
+		List<Throwable> getFailures() {
+			return this.failures;
+		}
+
+		List<Map<String, String>> getReportEntries() {
+			return this.reportEntries;
+		}
+	}
+
+}
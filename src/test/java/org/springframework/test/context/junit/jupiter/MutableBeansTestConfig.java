@@ -0,0 +1,54 @@
+/*
+ * Copyright 2002-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Config for tests which dirty or override individual beans: {@code counter}
+ * is a stateful bean, {@code counterHolder} depends on it, and {@code greeting}
+ * is declared with an interface type.
+ *
+ * @author agent
+ * @since 1.0
+ * @see DirtiesBeansSpringExtensionTests
+ * @see OverrideBeanSpringExtensionTests
+ */
+@Configuration
+public class MutableBeansTestConfig {
+
+	@Bean
+	AtomicInteger counter() {
+		return new AtomicInteger();
+	}
+
+	@Bean
+	AtomicReference<AtomicInteger> counterHolder(AtomicInteger counter) {
+		return new AtomicReference<>(counter);
+	}
+
+	@Bean
+	Supplier<String> greeting() {
+		return () -> "Hello";
+	}
+
+}
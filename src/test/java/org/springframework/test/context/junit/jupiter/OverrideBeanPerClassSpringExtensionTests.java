@@ -0,0 +1,85 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+
+/**
+ * Integration tests which verify that {@link OverrideBean @OverrideBean} test
+ * doubles are injected into test instances with the <em>per-class</em> lifecycle
+ * and registered again after the context has been reloaded.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see OverrideBeanSpringExtensionTests
+ */
+@SpringJUnitJupiterConfig(MutableBeansTestConfig.class)
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class OverrideBeanPerClassSpringExtensionTests {
+
+	static final AtomicInteger counterOverride = new AtomicInteger(7);
+
+	static ApplicationContext previousApplicationContext;
+
+	@Autowired
+	AtomicInteger counter;
+
+
+	@OverrideBean("counter")
+	static AtomicInteger counter() {
+		return counterOverride;
+	}
+
+
+	@Test
+	@Order(1)
+	void fieldIsInjectedWithOverride(ApplicationContext applicationContext) {
+		previousApplicationContext = applicationContext;
+		assertSame(counterOverride, this.counter, "counter should have been overridden");
+		assertEquals(7, this.counter.get(), "counter");
+	}
+
+	@Test
+	@Order(2)
+	void fieldIsInjectedWithOverrideAfterContextReload(ApplicationContext applicationContext) {
+		assertNotSame(previousApplicationContext, applicationContext, "ApplicationContext should have been reloaded");
+		assertSame(counterOverride, applicationContext.getBean("counter"), "counter should have been overridden");
+		assertSame(counterOverride, this.counter, "counter should have been re-injected");
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContextManager;
+
+/**
+ * Integration tests which verify that beans overridden via
+ * {@link OverrideBean @OverrideBean} are restored in the shared context once
+ * the overriding test class has completed.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see OverrideBeanSpringExtensionTests
+ */
+@SpringJUnitJupiterConfig(MutableBeansTestConfig.class)
+class OverrideBeanRestorationSpringExtensionTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void originalBeansAndDependentsAreRestoredAfterOverridingTestClass(ApplicationContext applicationContext)
+			throws Exception {
+
+		TestContextManager testContextManager = new TestContextManager(OverridingTestCase.class);
+		testContextManager.beforeTestClass();
+		assertSame(applicationContext, testContextManager.getTestContext().getApplicationContext(),
+			"ApplicationContext should be shared with the overriding test class");
+		assertSame(OverridingTestCase.counterOverride, applicationContext.getBean("counter"),
+			"counter should have been overridden");
+		assertSame(OverridingTestCase.counterOverride,
+			applicationContext.getBean("counterHolder", AtomicReference.class).get(),
+			"dependent bean should have been re-created");
+		testContextManager.afterTestClass();
+
+		AtomicInteger counter = applicationContext.getBean("counter", AtomicInteger.class);
+		AtomicReference<AtomicInteger> counterHolder = applicationContext.getBean("counterHolder", AtomicReference.class);
+		assertNotSame(OverridingTestCase.counterOverride, counter, "counter should have been restored");
+		assertEquals(0, counter.get(), "counter");
+		assertSame(counter, counterHolder.get(), "dependent bean should have been restored");
+	}
+
+
+	@ContextConfiguration(classes = MutableBeansTestConfig.class)
+	static class OverridingTestCase {
+
+		static final AtomicInteger counterOverride = new AtomicInteger(42);
+
+		@OverrideBean("counter")
+		static AtomicInteger counter() {
+			return counterOverride;
+		}
+	}
+
+}
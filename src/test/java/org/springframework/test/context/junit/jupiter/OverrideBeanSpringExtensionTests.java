@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests which verify support for {@link OverrideBean @OverrideBean}
+ * in conjunction with the {@link SpringExtension}.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see OverrideBean
+ * @see OverrideBeanTestExecutionListener
+ * @see OverrideBeanPerClassSpringExtensionTests
+ * @see OverrideBeanRestorationSpringExtensionTests
+ */
+@SpringJUnitJupiterConfig(MutableBeansTestConfig.class)
+@TestMethodOrder(OrderAnnotation.class)
+class OverrideBeanSpringExtensionTests {
+
+	static final AtomicInteger counterOverride = new AtomicInteger(42);
+
+
+	@OverrideBean("counter")
+	static AtomicInteger counter() {
+		return counterOverride;
+	}
+
+	/**
+	 * Overrides a bean declared with an interface type with an implementation
+	 * unrelated to the original singleton's class.
+	 */
+	@OverrideBean("greeting")
+	static Supplier<String> greeting() {
+		return () -> "Stub";
+	}
+
+
+	@Test
+	@Order(1)
+	void beanIsOverridden(@Autowired AtomicInteger counter) {
+		assertSame(counterOverride, counter, "counter should have been overridden");
+		assertEquals(42, counter.get(), "counter");
+	}
+
+	@Test
+	@Order(2)
+	@DirtiesBeans("counter")
+	void dependentsAreWiredWithOverride(@Autowired AtomicReference<AtomicInteger> counterHolder) {
+		assertSame(counterOverride, counterHolder.get(), "dependent bean should have been re-created");
+	}
+
+	@Test
+	@Order(3)
+	void overrideIsRegisteredAgainAfterDirtiesBeans(@Autowired AtomicInteger counter,
+			@Autowired AtomicReference<AtomicInteger> counterHolder) {
+
+		assertSame(counterOverride, counter, "counter should have been overridden again");
+		assertSame(counterOverride, counterHolder.get(), "dependent bean should have been re-created");
+	}
+
+	@Test
+	void beanDeclaredWithInterfaceTypeIsOverridden(@Autowired Supplier<String> greeting) {
+		assertEquals("Stub", greeting.get(), "greeting");
+	}
+
+}
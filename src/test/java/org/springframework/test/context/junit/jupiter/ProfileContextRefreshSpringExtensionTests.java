@@ -0,0 +1,80 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests which verify support for
+ * {@link ProfileContextRefresh @ProfileContextRefresh} in conjunction with the
+ * {@link SpringExtension}.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see ProfileContextRefresh
+ */
+@SpringJUnitJupiterConfig(TestConfig.class)
+@ProfileContextRefresh(outputDirectory = ProfileContextRefreshSpringExtensionTests.OUTPUT_DIRECTORY)
+class ProfileContextRefreshSpringExtensionTests {
+
+	static final String OUTPUT_DIRECTORY = "build/context-profiles";
+
+	static final Path outputDirectory = Paths.get(OUTPUT_DIRECTORY);
+
+	static final String fileName = ProfileContextRefreshSpringExtensionTests.class.getName();
+
+
+	/**
+	 * Delete files left over from previous runs. The context, and therefore
+	 * the profile, is loaded afterwards, when the first test instance is prepared.
+	 */
+	@BeforeAll
+	static void deleteStaleOutput() throws IOException {
+		Files.deleteIfExists(outputDirectory.resolve(fileName + ".txt"));
+		Files.deleteIfExists(outputDirectory.resolve(fileName + ".collapsed"));
+	}
+
+	@Test
+	void reportWritten() throws Exception {
+		Path report = outputDirectory.resolve(fileName + ".txt");
+		assertTrue(Files.exists(report), "report should have been written");
+		String content = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+		assertTrue(content.contains("dilbert"), "report should contain bean 'dilbert'");
+	}
+
+	@Test
+	void collapsedStacksWritten() throws Exception {
+		Path collapsedStacks = outputDirectory.resolve(fileName + ".collapsed");
+		assertTrue(Files.exists(collapsedStacks), "collapsed stacks should have been written");
+		for (String line : Files.readAllLines(collapsedStacks, StandardCharsets.UTF_8)) {
+			assertTrue(line.matches("\\S+ \\d+"), () -> "Unexpected collapsed stack line: " + line);
+		}
+	}
+
+}
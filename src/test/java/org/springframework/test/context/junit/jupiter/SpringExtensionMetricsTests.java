@@ -0,0 +1,129 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.LauncherTestUtils.EnabledWhenLaunched;
+import org.springframework.test.context.junit.jupiter.LauncherTestUtils.ExecutionRecorder;
+import org.springframework.test.context.junit.jupiter.comics.Dog;
+import org.springframework.test.context.junit.jupiter.comics.Person;
+
+/**
+ * Tests which verify that the {@link SpringExtension} publishes per-class
+ * metrics as report entries if and only if the
+ * {@value SpringExtension#METRICS_ENABLED_PROPERTY_NAME} configuration
+ * parameter is enabled.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see SpringExtension#METRICS_ENABLED_PROPERTY_NAME
+ */
+class SpringExtensionMetricsTests {
+
+	@Test
+	void metricsArePublishedWhenEnabled() {
+		ExecutionRecorder recorder = LauncherTestUtils.execute(MetricsTestCase.class,
+			Collections.singletonMap(SpringExtension.METRICS_ENABLED_PROPERTY_NAME, "true"));
+
+		assertEquals(2, recorder.getSucceededTests().size(), "succeeded tests");
+		List<Map<String, String>> reportEntries = recorder.getReportEntries();
+		assertEquals(1, reportEntries.size(), "report entries");
+		Map<String, String> entry = reportEntries.get(0);
+
+		assertDuration(entry, "spring.wallTimeMicros");
+		assertCount(entry, "beforeTestClass", 1);
+		assertCount(entry, "afterTestClass", 1);
+		assertCount(entry, "prepareTestInstance", 2);
+		assertCount(entry, "beforeTestMethod", 2);
+		assertCount(entry, "afterTestMethod", 2);
+		assertCount(entry, "resolveParameter", 2);
+		assertEquals(13, entry.size(), () -> "unexpected report entry: " + entry);
+	}
+
+	@Test
+	void metricsIncludeTestInstancePreparationForPerClassLifecycle() {
+		ExecutionRecorder recorder = LauncherTestUtils.execute(PerClassMetricsTestCase.class,
+			Collections.singletonMap(SpringExtension.METRICS_ENABLED_PROPERTY_NAME, "true"));
+
+		assertEquals(2, recorder.getSucceededTests().size(), "succeeded tests");
+		List<Map<String, String>> reportEntries = recorder.getReportEntries();
+		assertEquals(1, reportEntries.size(), "report entries");
+		Map<String, String> entry = reportEntries.get(0);
+
+		assertDuration(entry, "spring.wallTimeMicros");
+		assertCount(entry, "prepareTestInstance", 1);
+		assertCount(entry, "beforeTestClass", 1);
+		assertCount(entry, "afterTestClass", 1);
+		assertCount(entry, "beforeTestMethod", 2);
+		assertCount(entry, "afterTestMethod", 2);
+		assertCount(entry, "resolveParameter", 2);
+		assertEquals(13, entry.size(), () -> "unexpected report entry: " + entry);
+	}
+
+	@Test
+	void metricsAreNotPublishedByDefault() {
+		ExecutionRecorder recorder = LauncherTestUtils.execute(MetricsTestCase.class);
+
+		assertEquals(2, recorder.getSucceededTests().size(), "succeeded tests");
+		assertEquals(Collections.emptyList(), recorder.getReportEntries(), "report entries");
+	}
+
+	private static void assertCount(Map<String, String> entry, String event, int expectedCount) {
+		assertEquals(String.valueOf(expectedCount), entry.get("spring." + event + ".count"), event + " count");
+		assertDuration(entry, "spring." + event + ".totalMicros");
+	}
+
+	private static void assertDuration(Map<String, String> entry, String key) {
+		String value = entry.get(key);
+		assertTrue(value != null && Long.parseLong(value) >= 0, () -> key + " should be a duration: " + entry);
+	}
+
+
+	@ExtendWith({ EnabledWhenLaunched.class, SpringExtension.class })
+	@ContextConfiguration(classes = TestConfig.class)
+	static class MetricsTestCase {
+
+		@Test
+		void withoutParameters() {
+		}
+
+		@Test
+		void withParameters(@Autowired Dog dog, @Autowired Person dilbert) {
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	static class PerClassMetricsTestCase extends MetricsTestCase {
+	}
+
+}
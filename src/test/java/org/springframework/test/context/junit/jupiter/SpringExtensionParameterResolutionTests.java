@@ -0,0 +1,134 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.LauncherTestUtils.EnabledWhenLaunched;
+import org.springframework.test.context.junit.jupiter.LauncherTestUtils.ExecutionRecorder;
+import org.springframework.test.context.junit.jupiter.comics.Cat;
+import org.springframework.test.context.junit.jupiter.comics.Dog;
+import org.springframework.test.context.junit.jupiter.comics.Person;
+
+/**
+ * Integration tests which verify that the {@link SpringExtension} resolves all
+ * autowirable parameters of a constructor or method in a single pass without
+ * affecting other {@link org.junit.jupiter.api.extension.ParameterResolver
+ * ParameterResolvers} or the attribution of resolution failures.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see SpringExtension#resolveParameter
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = TestConfig.class)
+class SpringExtensionParameterResolutionTests {
+
+	/**
+	 * Verifies that no resolved parameters are left in the store of the current
+	 * or any enclosing {@code ExtensionContext} once all parameters have been
+	 * resolved.
+	 */
+	@RegisterExtension
+	static final BeforeTestExecutionCallback noResolvedParametersLeftInStore = context -> {
+		Store store = context.getStore(Namespace.create(SpringExtension.class));
+		assertNull(store.get(context.getRequiredTestMethod()), "resolved method parameters left in store");
+		assertNull(store.get(context.getRequiredTestClass().getDeclaredConstructors()[0]),
+			"resolved constructor parameters left in store");
+	};
+
+	private final Person dilbert;
+
+	private final Dog dog;
+
+
+	SpringExtensionParameterResolutionTests(TestInfo testInfo, @Autowired Person dilbert, TestReporter testReporter,
+			@Autowired Dog dog) {
+
+		assertNotNull(testInfo, "TestInfo should have been injected by JUnit");
+		assertNotNull(testReporter, "TestReporter should have been injected by JUnit");
+		this.dilbert = dilbert;
+		this.dog = dog;
+	}
+
+
+	@RepeatedTest(2)
+	void constructorParametersResolvedAroundJUnitParameters() {
+		assertEquals("Dilbert", this.dilbert.getName(), "dilbert");
+		assertEquals("Dogbert", this.dog.getName(), "dog");
+	}
+
+	@RepeatedTest(2)
+	void springAndJUnitParametersInterleaved(TestInfo testInfo, @Autowired Person wally, TestReporter testReporter,
+			@Autowired Cat primaryCat, TestInfo sameTestInfo) {
+
+		assertNotNull(testInfo, "TestInfo should have been injected by JUnit");
+		assertNotNull(testReporter, "TestReporter should have been injected by JUnit");
+		assertNotNull(sameTestInfo, "TestInfo should have been injected by JUnit");
+		assertEquals("Wally", wally.getName(), "wally");
+		assertEquals("Catbert", primaryCat.getName(), "primary cat");
+	}
+
+	@Test
+	void resolutionFailureIsReportedForFailingParameter() {
+		ExecutionRecorder recorder = LauncherTestUtils.execute(FailingParameterTestCase.class);
+
+		assertTrue(recorder.getSucceededTests().isEmpty(), "test should not have succeeded");
+		List<Throwable> failures = recorder.getFailures();
+		assertEquals(1, failures.size(), "failures");
+		assertTrue(failures.get(0) instanceof ParameterResolutionException, failures.get(0).toString());
+		ParameterResolutionException exception = (ParameterResolutionException) failures.get(0);
+		assertTrue(exception.getMessage().contains("Person missing"), exception.getMessage());
+		assertFalse(exception.getMessage().contains("Dog dog"), exception.getMessage());
+		assertTrue(exception.getCause() instanceof NoSuchBeanDefinitionException, String.valueOf(exception.getCause()));
+	}
+
+
+	@ExtendWith({ EnabledWhenLaunched.class, SpringExtension.class })
+	@ContextConfiguration(classes = TestConfig.class)
+	static class FailingParameterTestCase {
+
+		@Test
+		void test(TestInfo testInfo, @Autowired Dog dog, @Qualifier("missing") Person missing, @Autowired Cat cat) {
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2019 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,23 +18,35 @@ package org.springframework.test.context.junit.jupiter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Optional;
 
+import javax.inject.Provider;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.comics.Cat;
@@ -55,9 +67,16 @@ import org.springframework.test.context.junit.jupiter.comics.Person;
  */
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = TestConfig.class)
-@TestPropertySource(properties = "enigma = 42")
+@TestPropertySource(properties = { "enigma = 42", "greeting = #{'Hello ' + ${enigma}}" })
 class SpringExtensionTests {
 
+	static Integer previousCachedValue;
+
+	static String previousUncachedValue;
+
+	static String previousUncachedPlaceholderValue;
+
+
 	@Autowired
 	Person dilbert;
 
@@ -88,6 +107,25 @@ class SpringExtensionTests {
 		assertEquals(this.dilbert, applicationContext.getBean("dilbert", Person.class));
 	}
 
+	@Test
+	void beanFactoryInjectedIntoMethod(@Autowired BeanFactory beanFactory, ApplicationContext applicationContext) {
+		assertSame(applicationContext.getAutowireCapableBeanFactory(), beanFactory, "BeanFactory");
+		assertEquals(this.dilbert, beanFactory.getBean("dilbert", Person.class));
+	}
+
+	@Test
+	void resourceLoaderInjectedIntoMethod(@Autowired ResourceLoader resourceLoader,
+			ApplicationContext applicationContext) {
+
+		assertSame(applicationContext, resourceLoader, "ResourceLoader");
+	}
+
+	@Test
+	void environmentInjectedIntoMethod(@Autowired Environment environment) {
+		assertNotNull(environment, "Environment should have been injected by Spring");
+		assertEquals("42", environment.getProperty("enigma"), "enigma");
+	}
+
 	@Test
 	void autowiredFields() {
 		assertNotNull(this.dilbert, "Dilbert should have been @Autowired by Spring");
@@ -158,6 +196,24 @@ class SpringExtensionTests {
 		assertEquals(2, peopleParam.size(), "Number of people in context");
 	}
 
+	@Test
+	void objectProviderParameter(ObjectProvider<Dog> dogProvider) {
+		assertNotNull(dogProvider, "ObjectProvider should have been injected by Spring");
+		assertEquals("Dogbert", dogProvider.getIfAvailable().getName(), "Dog's name");
+	}
+
+	@Test
+	void javaxInjectProviderParameter(Provider<Dog> dogProvider) {
+		assertNotNull(dogProvider, "Provider should have been injected by Spring");
+		assertEquals("Dogbert", dogProvider.get().getName(), "Dog's name");
+	}
+
+	@Test
+	void lazyParameter(@Lazy Cat primaryCat) {
+		assertTrue(AopUtils.isAopProxy(primaryCat), "@Lazy cat should have been injected as a proxy");
+		assertEquals("Catbert", primaryCat.getName(), "Primary cat's name");
+	}
+
 	@Test
 	void valueParameterWithPrimitiveType(@Value("99") int num) {
 		assertEquals(99, num);
@@ -169,6 +225,50 @@ class SpringExtensionTests {
 		assertEquals(new Integer(42), enigmaParam, "enigma");
 	}
 
+	/**
+	 * Uses a value outside of the range of {@link Integer#valueOf(int)}'s cache so
+	 * that each uncached resolution results in a new instance.
+	 */
+	@RepeatedTest(2)
+	void valueParameterFromPropertyPlaceholderIsCached(@Value("${enigma}000") Integer enigmaParam,
+			RepetitionInfo repetitionInfo) {
+
+		assertEquals(new Integer(42000), enigmaParam, "enigma");
+		if (repetitionInfo.getCurrentRepetition() == 1) {
+			previousCachedValue = enigmaParam;
+		}
+		else {
+			assertSame(previousCachedValue, enigmaParam, "placeholder-only @Value parameter should be cached");
+		}
+	}
+
+	@RepeatedTest(2)
+	void valueParameterFromSpelExpressionIsNotCached(@Value("#{'Hello ' + ${enigma}}") String hello,
+			RepetitionInfo repetitionInfo) {
+
+		assertEquals("Hello 42", hello, "hello from SpEL expression");
+		if (repetitionInfo.getCurrentRepetition() == 1) {
+			previousUncachedValue = hello;
+		}
+		else {
+			assertNotSame(previousUncachedValue, hello, "SpEL @Value parameter should not be cached");
+		}
+	}
+
+	@RepeatedTest(2)
+	void valueParameterFromPropertyPlaceholderResolvingToSpelExpressionIsNotCached(
+			@Value("${greeting}") String greeting, RepetitionInfo repetitionInfo) {
+
+		assertEquals("Hello 42", greeting, "greeting from SpEL expression");
+		if (repetitionInfo.getCurrentRepetition() == 1) {
+			previousUncachedPlaceholderValue = greeting;
+		}
+		else {
+			assertNotSame(previousUncachedPlaceholderValue, greeting,
+				"@Value parameter resolving to SpEL should not be cached");
+		}
+	}
+
 	@Test
 	void valueParameterFromDefaultValueForPropertyPlaceholder(@Value("${bogus:false}") Boolean defaultValue) {
 		assertNotNull(defaultValue, "Default value should have been injected via @Value by Spring");
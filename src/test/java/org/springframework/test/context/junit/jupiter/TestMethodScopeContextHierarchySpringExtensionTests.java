@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.ContextHierarchy;
+import org.springframework.test.context.junit.jupiter.TestMethodScopeSpringExtensionTests.Counter;
+
+/**
+ * Integration tests which verify that the {@link TestMethodScope} is ended at
+ * every level of a {@link ContextHierarchy @ContextHierarchy}.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see TestMethodScopeSpringExtensionTests
+ */
+@ExtendWith(SpringExtension.class)
+@ContextHierarchy({
+	@ContextConfiguration(classes = TestMethodScopeContextHierarchySpringExtensionTests.ParentConfig.class),
+	@ContextConfiguration(classes = TestMethodScopeContextHierarchySpringExtensionTests.ChildConfig.class)
+})
+@TestMethodOrder(OrderAnnotation.class)
+class TestMethodScopeContextHierarchySpringExtensionTests {
+
+	static Counter previousParentCounter;
+
+	static Counter previousChildCounter;
+
+
+	@Test
+	@Order(1)
+	void modifyScopedBeans(@Autowired Counter parentCounter, @Autowired Counter childCounter) {
+		assertEquals(1, parentCounter.incrementAndGet(), "parent counter");
+		assertEquals(1, childCounter.incrementAndGet(), "child counter");
+		previousParentCounter = parentCounter;
+		previousChildCounter = childCounter;
+	}
+
+	@Test
+	@Order(2)
+	void scopedBeansRecreatedAtEveryLevel(@Autowired Counter parentCounter, @Autowired Counter childCounter) {
+		assertNotSame(previousParentCounter, parentCounter, "parent counter should have been re-created");
+		assertEquals(0, parentCounter.get(), "parent counter");
+		assertTrue(previousParentCounter.destroyed, "previous parent counter should have been destroyed");
+
+		assertNotSame(previousChildCounter, childCounter, "child counter should have been re-created");
+		assertEquals(0, childCounter.get(), "child counter");
+		assertTrue(previousChildCounter.destroyed, "previous child counter should have been destroyed");
+	}
+
+
+	@Configuration
+	static class ParentConfig {
+
+		@Bean
+		@Scope(TestMethodScope.NAME)
+		Counter parentCounter() {
+			return new Counter();
+		}
+	}
+
+	@Configuration
+	static class ChildConfig {
+
+		@Bean
+		@Scope(TestMethodScope.NAME)
+		Counter childCounter() {
+			return new Counter();
+		}
+	}
+
+}
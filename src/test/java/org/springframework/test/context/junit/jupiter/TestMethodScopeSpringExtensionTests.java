@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+/**
+ * Integration tests which verify support for the {@link TestMethodScope}
+ * in conjunction with the {@link SpringExtension}.
+ *
+ * <p>To run these tests in an IDE, simply run {@link SpringExtensionTestSuite}
+ * as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see TestMethodScope
+ */
+@SpringJUnitJupiterConfig
+@TestMethodOrder(OrderAnnotation.class)
+class TestMethodScopeSpringExtensionTests {
+
+	static Counter previousCounter;
+
+	static ResettableCounter previousResettableCounter;
+
+
+	@Test
+	@Order(1)
+	void modifyScopedBeans(@Autowired Counter counter, @Autowired ResettableCounter resettableCounter) {
+		assertEquals(1, counter.incrementAndGet(), "counter");
+		assertEquals(1, resettableCounter.incrementAndGet(), "resettable counter");
+		previousCounter = counter;
+		previousResettableCounter = resettableCounter;
+	}
+
+	@Test
+	@Order(2)
+	void scopedBeanRecreatedForNextTestMethod(@Autowired Counter counter, @Qualifier("counter") Counter sameCounter) {
+		assertSame(counter, sameCounter, "counter should be shared within a test method");
+		assertNotSame(previousCounter, counter, "counter should have been re-created");
+		assertEquals(0, counter.get(), "counter");
+		assertTrue(previousCounter.destroyed, "previous counter should have been destroyed");
+	}
+
+	@Test
+	@Order(3)
+	void resettableBeanReusedForNextTestMethod(@Autowired ResettableCounter resettableCounter) {
+		assertSame(previousResettableCounter, resettableCounter, "resettable counter should have been reused");
+		assertEquals(0, resettableCounter.get(), "resettable counter should have been reset");
+		assertFalse(resettableCounter.destroyed, "resettable counter should not have been destroyed");
+	}
+
+
+	@Configuration
+	static class Config {
+
+		@Bean
+		@Scope(TestMethodScope.NAME)
+		Counter counter() {
+			return new Counter();
+		}
+
+		@Bean
+		@Scope(TestMethodScope.NAME)
+		ResettableCounter resettableCounter() {
+			return new ResettableCounter();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	static class Counter extends AtomicInteger implements DisposableBean {
+
+		boolean destroyed;
+
+		@Override
+		public void destroy() {
+			this.destroyed = true;
+		}
+	}
+
+	@SuppressWarnings("serial")
+	static class ResettableCounter extends Counter implements TestMethodScope.Resettable {
+
+		@Override
+		public void reset() {
+			set(0);
+		}
+	}
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter.params;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.junit.jupiter.SpringJUnitJupiterConfig;
+import org.springframework.test.context.junit.jupiter.comics.Cat;
+import org.springframework.test.context.junit.jupiter.comics.Dog;
+import org.springframework.test.context.junit.jupiter.comics.Person;
+
+/**
+ * Integration tests which verify support for {@link BeanSource @BeanSource}
+ * in conjunction with the {@link SpringExtension}.
+ *
+ * <p>To run these tests in an IDE, simply run
+ * {@link org.springframework.test.context.junit.jupiter.SpringExtensionTestSuite
+ * SpringExtensionTestSuite} as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see BeanSource
+ */
+@SpringJUnitJupiterConfig
+class BeanSourceSpringExtensionTests {
+
+	@ParameterizedTest
+	@BeanSource("people")
+	void argumentsFromIterableBean(Person person) {
+		assertTrue(Arrays.asList("Dilbert", "Wally").contains(person.getName()), person.getName());
+	}
+
+	@ParameterizedTest
+	@BeanSource(value = "comicsData", method = "characters")
+	void argumentsFromStreamMethod(String name, int length) {
+		assertEquals(length, name.length(), "length of name");
+	}
+
+	@ParameterizedTest
+	@BeanSource(value = "comicsData", method = "lengths")
+	void argumentsFromPrimitiveStreamMethod(int length) {
+		assertTrue(length > 0, "length should be positive");
+	}
+
+	@ParameterizedTest
+	@BeanSource(value = "comicsData", method = "names")
+	void argumentsFromIteratorMethod(String name) {
+		assertTrue(Arrays.asList("Dilbert", "Wally").contains(name), name);
+	}
+
+	@ParameterizedTest
+	@BeanSource(value = "comicsData", method = "namesAndLengths")
+	void argumentsFromArrayOfArraysMethod(String name, int length) {
+		assertEquals(length, name.length(), "length of name");
+	}
+
+	@ParameterizedTest
+	@BeanSource(value = "comicsData", method = "counting")
+	void argumentsPulledOneAtATime(int value, @Autowired ComicsData comicsData) {
+		assertEquals(value, comicsData.pulledElements.get(), "elements should be pulled one at a time");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void allElementsOfIterableBeanProvided(ExtensionContext context) {
+		List<List<Object>> arguments = provideArguments("people", "", context);
+		assertEquals(2, arguments.size(), "number of arguments");
+		assertEquals("Dilbert", ((Person) arguments.get(0).get(0)).getName(), "first argument");
+		assertEquals("Wally", ((Person) arguments.get(1).get(0)).getName(), "second argument");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void allElementsOfStreamProvided(ExtensionContext context) {
+		assertEquals(Arrays.asList(Arrays.asList("Dilbert", 7), Arrays.asList("Dogbert", 7), Arrays.asList("Catbert", 7)),
+			provideArguments("comicsData", "characters", context), "arguments");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void allElementsOfPrimitiveStreamProvided(ExtensionContext context) {
+		assertEquals(Arrays.asList(singletonList(1), singletonList(2), singletonList(3)),
+			provideArguments("comicsData", "lengths", context), "arguments");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void allElementsOfIteratorProvided(ExtensionContext context) {
+		assertEquals(Arrays.asList(singletonList("Dilbert"), singletonList("Wally")),
+			provideArguments("comicsData", "names", context), "arguments");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void allElementsOfArrayOfArraysProvided(ExtensionContext context) {
+		assertEquals(Arrays.asList(Arrays.asList("Dilbert", 7), Arrays.asList("Wally", 5)),
+			provideArguments("comicsData", "namesAndLengths", context), "arguments");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void allElementsOfPrimitiveArrayProvided(ExtensionContext context) {
+		assertEquals(Arrays.asList(singletonList(1), singletonList(2)),
+			provideArguments("comicsData", "primitives", context), "arguments");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void unboundedStreamConsumedLazily(ExtensionContext context, @Autowired ComicsData comicsData) {
+		Iterator<? extends Arguments> arguments = createProvider("comicsData", "counting").provideArguments(context).iterator();
+		assertEquals(0, comicsData.pulledElements.get(), "no element should have been pulled yet");
+		assertEquals(1, arguments.next().get()[0], "first argument");
+		assertEquals(1, comicsData.pulledElements.get(), "pulled elements");
+		assertEquals(2, arguments.next().get()[0], "second argument");
+		assertEquals(2, comicsData.pulledElements.get(), "pulled elements");
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void singleUseStreamBeanRejected(ExtensionContext context) {
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> provideArguments("nameStream", "", context));
+		assertTrue(exception.getMessage().contains("can only be consumed once"), exception.getMessage());
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void missingMethod(ExtensionContext context) {
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> provideArguments("comicsData", "bogus", context));
+		assertTrue(exception.getMessage().contains("Could not find no-arg method [bogus]"), exception.getMessage());
+	}
+
+	@Test
+	@ExtendWith(ExtensionContextParameterResolver.class)
+	void unsupportedSource(ExtensionContext context) {
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> provideArguments("comicsData", "", context));
+		assertTrue(exception.getMessage().contains("is not a Stream, Iterable, Iterator, or array"),
+			exception.getMessage());
+	}
+
+	private static List<List<Object>> provideArguments(String beanName, String methodName, ExtensionContext context) {
+		return createProvider(beanName, methodName).provideArguments(context)
+				.map(arguments -> Arrays.asList(arguments.get()))
+				.collect(Collectors.toList());
+	}
+
+	private static BeanArgumentsProvider createProvider(String beanName, String methodName) {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("value", beanName);
+		attributes.put("method", methodName);
+		BeanArgumentsProvider provider = new BeanArgumentsProvider();
+		provider.accept(AnnotationUtils.synthesizeAnnotation(attributes, BeanSource.class, null));
+		return provider;
+	}
+
+
+	@Configuration
+	static class Config {
+
+		@Bean
+		List<Person> people() {
+			return Arrays.asList(new Person("Dilbert"), new Person("Wally"));
+		}
+
+		@Bean
+		Stream<String> nameStream() {
+			return Stream.of("Dilbert", "Wally");
+		}
+
+		@Bean
+		ComicsData comicsData() {
+			return new ComicsData();
+		}
+	}
+
+	static class ComicsData {
+
+		/**
+		 * Number of elements pulled from the stream most recently returned by
+		 * {@link #counting()}.
+		 */
+		final AtomicInteger pulledElements = new AtomicInteger();
+
+		Stream<Arguments> characters() {
+			return Stream.of(new Person("Dilbert"), new Dog("Dogbert"), new Cat("Catbert"))
+					.map(character -> Arguments.of(character.getName(), character.getName().length()));
+		}
+
+		IntStream lengths() {
+			return IntStream.rangeClosed(1, 3);
+		}
+
+		Iterator<String> names() {
+			return Arrays.asList("Dilbert", "Wally").iterator();
+		}
+
+		Object[][] namesAndLengths() {
+			return new Object[][] { { "Dilbert", 7 }, { "Wally", 5 } };
+		}
+
+		int[] primitives() {
+			return new int[] { 1, 2 };
+		}
+
+		/**
+		 * Unbounded stream which records each element pulled from it, limited
+		 * after the elements have been recorded.
+		 */
+		Stream<Integer> counting() {
+			this.pulledElements.set(0);
+			return Stream.iterate(1, i -> i + 1).peek(i -> this.pulledElements.incrementAndGet()).limit(3);
+		}
+	}
+
+	static class ExtensionContextParameterResolver implements ParameterResolver {
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == ExtensionContext.class;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return extensionContext;
+		}
+	}
+
+}
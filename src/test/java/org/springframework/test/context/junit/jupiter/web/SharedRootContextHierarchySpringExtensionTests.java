@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.junit.jupiter.web;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.BootstrapWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.ContextHierarchy;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.junit.jupiter.TestConfig;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests which verify that the {@link SharedRootWebTestContextBootstrapper}
+ * allows web test classes with different resource paths to share a single
+ * non-web root context.
+ *
+ * <p>To run these tests in an IDE, simply run
+ * {@link org.springframework.test.context.junit.jupiter.SpringExtensionTestSuite
+ * SpringExtensionTestSuite} as a JUnit 4 test.
+ *
+ * @author agent
+ * @since 1.0
+ * @see SharedRootWebTestContextBootstrapper
+ */
+class SharedRootContextHierarchySpringExtensionTests {
+
+	static final Map<String, ApplicationContext> rootContexts = new ConcurrentHashMap<>();
+
+
+	static void assertSharedRootContext(String resourcePath, WebApplicationContext wac) throws Exception {
+		ApplicationContext root = wac.getParent();
+		assertNotNull(root, "root context");
+		assertFalse(root instanceof WebApplicationContext, "root context should not be a WebApplicationContext");
+		assertTrue(wac.getServletContext().getRealPath("/").contains(resourcePath.replace('/', File.separatorChar)),
+			"resource path");
+
+		rootContexts.put(resourcePath, root);
+		rootContexts.values().forEach(other -> assertSame(root, other, "root context should be shared"));
+
+		webAppContextSetup(wac).build()
+			.perform(get("/person/42"))
+			.andExpect(jsonPath("$.name", is("Dilbert")));
+	}
+
+
+	@Nested
+	@ExtendWith(SpringExtension.class)
+	@WebAppConfiguration("src/test/webapp-a")
+	@BootstrapWith(SharedRootWebTestContextBootstrapper.class)
+	@ContextHierarchy({
+		@ContextConfiguration(classes = TestConfig.class, loader = AnnotationConfigContextLoader.class),
+		@ContextConfiguration(classes = WebConfig.class)
+	})
+	class ResourcePathATests {
+
+		@Test
+		void rootContextShared(WebApplicationContext wac) throws Exception {
+			assertSharedRootContext("src/test/webapp-a", wac);
+		}
+	}
+
+	@Nested
+	@ExtendWith(SpringExtension.class)
+	@WebAppConfiguration("src/test/webapp-b")
+	@BootstrapWith(SharedRootWebTestContextBootstrapper.class)
+	@ContextHierarchy({
+		@ContextConfiguration(classes = TestConfig.class, loader = AnnotationConfigContextLoader.class),
+		@ContextConfiguration(classes = WebConfig.class)
+	})
+	class ResourcePathBTests {
+
+		@Test
+		void rootContextShared(WebApplicationContext wac) throws Exception {
+			assertSharedRootContext("src/test/webapp-b", wac);
+		}
+	}
+
+}